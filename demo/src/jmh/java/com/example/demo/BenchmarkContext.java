@@ -0,0 +1,110 @@
+package com.example.demo;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 스프링 컨텍스트 (임베디드 H2, MySQL 호환 모드)
+ * 스키마는 엔티티 기준으로 생성하고, 데이터는 JDBC batch 로 시드한다.
+ */
+public final class BenchmarkContext {
+
+    public static final String PASSWORD = "benchmark-password";
+
+    private static final String[] CATEGORIES = {"프로그래밍", "어학", "자격증", "취업", "독서"};
+    private static final String[] LOCATIONS = {"서울", "부산", "대구", "온라인"};
+
+    private BenchmarkContext() {
+    }
+
+    // overrides: 추가 설정 (예: "app.metrics.service-timing.enabled=false")
+    // 임베디드 Tomcat 이 필요하면 "spring.main.web-application-type=servlet" 을 넘김
+    public static ConfigurableApplicationContext start(String... overrides) {
+        String dbName = "bench_" + System.nanoTime();
+
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + dbName
+                                + ";MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN")
+                .properties(overrides)
+                .run();
+    }
+
+    /**
+     * users 명의 사용자, studies 개의 스터디, 스터디마다 commentsPerStudy 개의 댓글(절반은 답글)을 생성
+     * seed 가 같으면 항상 같은 데이터
+     */
+    public static void seed(JdbcTemplate jdbc, String encodedPassword,
+                            int users, int studies, int commentsPerStudy, long seed) {
+        Random random = new Random(seed);
+        Timestamp base = Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            userRows.add(new Object[]{"user" + i + "@example.com", encodedPassword, "ROLE_USER", "user" + i});
+        }
+        jdbc.batchUpdate("INSERT INTO user (email, password, role, name) VALUES (?, ?, ?, ?)", userRows);
+
+        List<Object[]> studyRows = new ArrayList<>(studies);
+        for (int i = 1; i <= studies; i++) {
+            Timestamp createdAt = new Timestamp(base.getTime() + i * 60_000L);
+            studyRows.add(new Object[]{
+                    (long) (random.nextInt(users) + 1),
+                    "스터디 " + i,
+                    "스터디 소개 " + i + " 설명입니다.",
+                    random.nextBoolean() ? "모집중" : "모집완료",
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    "매주 토요일",
+                    LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    random.nextInt(10) + 2,
+                    "1주차 ~ 8주차 커리큘럼",
+                    random.nextInt(1000),
+                    false,
+                    createdAt,
+                    createdAt
+            });
+        }
+        jdbc.batchUpdate("INSERT INTO study (author_id, title, description, status, category, schedule, "
+                + "location, recruit_count, curriculum, views, is_temp, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", studyRows);
+
+        // 원댓글 먼저 넣고, 답글은 같은 스터디의 원댓글을 부모로 지정
+        long commentId = 0;
+        List<Object[]> commentRows = new ArrayList<>();
+        List<Object[]> replyRows = new ArrayList<>();
+        int roots = commentsPerStudy == 0 ? 0 : Math.max(1, commentsPerStudy / 2);
+        for (int s = 1; s <= studies; s++) {
+            long firstRootId = commentId + 1;
+            for (int c = 0; c < roots; c++) {
+                commentId++;
+                commentRows.add(new Object[]{(long) s, (long) (random.nextInt(users) + 1), null, "댓글 " + commentId, base, base});
+            }
+            for (int c = roots; c < commentsPerStudy; c++) {
+                long parentId = firstRootId + random.nextInt(roots);
+                replyRows.add(new Object[]{(long) s, (long) (random.nextInt(users) + 1), parentId, "답글", base, base});
+            }
+        }
+        String commentSql = "INSERT INTO comment (study_id, author_id, parent_id, content, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        jdbc.batchUpdate(commentSql, commentRows);
+        jdbc.batchUpdate(commentSql, replyRows);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.controller;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드(virtual 프로필) on/off 부하 비교용 HTTP 부하 클라이언트
+ * 동시 클라이언트 2,000 개가 피드/상세 조회를 반복한다.
+ *
+ * 서버는 이 벤치마크와 같은 JVM 에서 띄우지 않는다 (클라이언트와 CPU/GC 를 나눠 쓰면 수치가 의미 없음).
+ * MySQL 에 연결한 서버를 별도 프로세스(가능하면 별도 머신)로 띄우고, 모드만 바꿔 두 번 실행해서
+ * Throughput (ops/ms) 와 SampleTime 의 p0.99 를 비교할 것.
+ *
+ * 1) java -jar demo.jar [--spring.profiles.active=virtual]   (MySQL, 스터디 id 1 ~ load.studies 가 있어야 함)
+ * 2) ./gradlew jmh -PjmhIncludes=VirtualThreadLoadBenchmark -PloadBaseUrl=http://서버:8080 [-PloadStudies=10000]
+ *
+ * 서버에 -Djdk.tracePinnedThreads=short 를 주면 가상 스레드 pinning 여부도 확인할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(2000)
+public class VirtualThreadLoadBenchmark {
+
+    private HttpClient client;
+    private String baseUrl;
+    private int studies;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        baseUrl = System.getProperty("load.base-url", "http://localhost:8080") + "/api/studies";
+        studies = Integer.getInteger("load.studies", 10000);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // 서버가 떠 있지 않으면 측정 전에 실패
+        get(baseUrl + "/feed?size=1");
+    }
+
+    @Benchmark
+    public int getStudyFeed() throws IOException, InterruptedException {
+        return get(baseUrl + "/feed?size=20");
+    }
+
+    @Benchmark
+    public int getStudyDetail() throws IOException, InterruptedException {
+        return get(baseUrl + "/" + (ThreadLocalRandom.current().nextInt(studies) + 1));
+    }
+
+    private int get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " : " + url);
+        }
+        return response.statusCode();
+    }
+}
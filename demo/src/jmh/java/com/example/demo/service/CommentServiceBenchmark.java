@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import com.example.demo.BenchmarkContext;
+import com.example.demo.dto.CommentPageResponseDTO;
+import com.example.demo.dto.CommentResponseDTO;
+import com.example.demo.util.CommentTreeBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 계층 구조 생성 비용
+ * - buildTree      : 메모리상 트리 생성만 (DB 제외)
+ * - getComments*   : H2 에 시드한 스터디 1개의 댓글 조회
+ * datasetSize = 스터디 1개에 달린 댓글 수 (절반은 답글)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentServiceBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private CommentService commentService;
+
+    private long[] ids;
+    private Long[] parentIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context.getBean(JdbcTemplate.class), "{noop}", 100, 1, datasetSize, 42L);
+        commentService = context.getBean(CommentService.class);
+
+        // 메모리 트리용 입력 (원댓글 절반, 나머지는 임의의 이전 댓글에 대한 답글)
+        Random random = new Random(42L);
+        ids = new long[datasetSize];
+        parentIds = new Long[datasetSize];
+        for (int i = 0; i < datasetSize; i++) {
+            ids[i] = i + 1;
+            parentIds[i] = (i == 0 || random.nextBoolean()) ? null : (long) (random.nextInt(i) + 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> buildTree() {
+        // 트리 생성이 replies 를 변경하므로 매번 새 DTO 로 시작
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentResponseDTO> comments = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            comments.add(CommentResponseDTO.builder()
+                    .id(ids[i])
+                    .studyId(1L)
+                    .parentId(parentIds[i])
+                    .content("댓글")
+                    .author("user")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return CommentTreeBuilder.build(comments);
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> getCommentsByStudyId() {
+        return commentService.getCommentsByStudyId(1L);
+    }
+
+    @Benchmark
+    public CommentPageResponseDTO getCommentPage() {
+        return commentService.getCommentPage(1L, null, 20);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import com.example.demo.BenchmarkContext;
+import com.example.demo.dto.LoginRequestDTO;
+import com.example.demo.dto.LoginResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 (학기 초): 요청 스레드 64개가 동시에 login 호출
+ * 해시는 password.hashing.threads 개 스레드에서만 실행되므로 처리량은 그 수에 묶이고,
+ * 대기열/대기 시간을 넘긴 요청은 거절된다 (rejected).
+ * loginsPerCore = 초당 성공 로그인 / 코어 수 (AuxCounters, ops/s 로 표시)
+ * 실행: ./gradlew jmh -PjmhIncludes=LoginStormBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class LoginStormBenchmark {
+
+    private static final int USERS = 1000;
+    private static final double CORES = Runtime.getRuntime().availableProcessors();
+
+    @Param({"10", "12"})
+    private int strength;
+
+    // 0 = 코어 수 / 2 (애플리케이션 기본값)
+    @Param({"0"})
+    private int hashThreads;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "password.bcrypt.strength=" + strength,
+                "password.hashing.threads=" + hashThreads);
+        String encoded = context.getBean(PasswordEncoder.class).encode(BenchmarkContext.PASSWORD);
+        BenchmarkContext.seed(context.getBean(JdbcTemplate.class), encoded, USERS, 0, 0, 42L);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public double loginsPerCore;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            loginsPerCore = 0;
+            rejected = 0;
+        }
+    }
+
+    @Benchmark
+    public LoginResponseDTO login(Counters counters) {
+        LoginRequestDTO request = new LoginRequestDTO();
+        request.setEmail("user" + (ThreadLocalRandom.current().nextInt(USERS) + 1) + "@example.com");
+        request.setPassword(BenchmarkContext.PASSWORD);
+        try {
+            LoginResponseDTO response = userService.login(request);
+            counters.loginsPerCore += 1 / CORES;
+            return response;
+        } catch (RuntimeException e) {
+            // 해시 대기열 초과/대기 시간 초과
+            counters.rejected++;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import com.example.demo.BenchmarkContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계측(HTTP 요청 히스토그램 + 서비스 타이머 + 리포지토리 타이머) 오버헤드
+ * instrumented=true / false 의 피드 조회 시간 차이가 2% 이내여야 한다.
+ * http.server.requests 까지 포함되도록 서비스를 직접 부르지 않고 임베디드 Tomcat 에 HTTP 로 요청한다
+ * (루프백 왕복 시간은 양쪽에 똑같이 들어감).
+ * ./gradlew jmh -PjmhIncludes=ObservabilityOverheadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ObservabilityOverheadBenchmark {
+
+    @Param({"false", "true"})
+    private boolean instrumented;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest feedRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "spring.main.web-application-type=servlet",
+                "server.port=0",
+                "management.server.port=-1",
+                "management.observations.enable.http.server.requests=" + instrumented,
+                "app.metrics.service-timing.enabled=" + instrumented,
+                "management.metrics.data.repository.autotime.enabled=" + instrumented);
+        BenchmarkContext.seed(context.getBean(JdbcTemplate.class), "{noop}", 1000, 10000, 0, 42L);
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        feedRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/studies/feed?size=20"))
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getStudyFeedFirstPage() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(feedRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
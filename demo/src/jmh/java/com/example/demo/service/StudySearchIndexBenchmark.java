@@ -0,0 +1,81 @@
+package com.example.demo.service;
+
+import com.example.demo.util.ZipfSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스터디 검색 색인 조회 시간 (DB 제외, 메모리 색인만)
+ * 목표: 100만 건에서 검색 한 번 10ms 미만 (SampleTime 의 p0.99 로 확인)
+ * - searchCommon : 거의 모든 문서에 나오는 bigram ("스터디") → 최악의 경우
+ * - searchTech   : 조사가 붙어 색인된 영문 기술명
+ * - searchMixed  : 한글 + 영문 여러 단어
+ * 단어 빈도는 Zipf 분포 (실제 제목/소개처럼 일부 단어가 매우 흔함)
+ * ./gradlew jmh -PjmhIncludes=StudySearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class StudySearchIndexBenchmark {
+
+    private static final String[] TECHS = {
+            "Spring", "Java", "React", "Vue", "Kotlin", "Python", "Django", "Node", "TypeScript", "Go",
+            "Rust", "Docker", "Kubernetes", "AWS", "MySQL", "Redis", "Kafka", "JPA", "Flutter", "Swift"};
+    private static final String[] PARTICLES = {"", "을", "를", "로", "과", "와", "의"};
+    private static final String[] SYLLABLES = {
+            "가", "나", "다", "라", "마", "바", "사", "아", "자", "차", "카", "타", "파", "하",
+            "개", "발", "코", "딩", "알", "고", "리", "즘", "프", "론", "트", "백", "엔", "드", "실", "전"};
+    private static final String[] CATEGORIES = {"백엔드", "프론트엔드", "알고리즘", "모바일", "데이터", "인프라"};
+
+    @Param({"100000", "1000000"})
+    private int datasetSize;
+
+    private StudySearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        String[] words = new String[2000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = i < TECHS.length ? TECHS[i]
+                    : SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                      + (random.nextBoolean() ? SYLLABLES[random.nextInt(SYLLABLES.length)] : "");
+        }
+        ZipfSampler zipf = new ZipfSampler(words.length, 1.0);
+
+        index = new StudySearchIndex(null);
+        for (long id = 1; id <= datasetSize; id++) {
+            String title = words[zipf.sample(random) - 1] + PARTICLES[random.nextInt(PARTICLES.length)] + " "
+                    + words[zipf.sample(random) - 1] + " 스터디";
+            index.index(id, title, text(words, zipf, random, 12), text(words, zipf, random, 6),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        }
+    }
+
+    private static String text(String[] words, ZipfSampler zipf, Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(words[zipf.sample(random) - 1]).append(PARTICLES[random.nextInt(PARTICLES.length)]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public List<Long> searchCommon() {
+        return index.search("스터디", 20);
+    }
+
+    @Benchmark
+    public List<Long> searchTech() {
+        return index.search("spring", 20);
+    }
+
+    @Benchmark
+    public List<Long> searchMixed() {
+        return index.search("Spring 백엔드 스터디", 20);
+    }
+}
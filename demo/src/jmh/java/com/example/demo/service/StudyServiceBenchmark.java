@@ -0,0 +1,55 @@
+package com.example.demo.service;
+
+import com.example.demo.BenchmarkContext;
+import com.example.demo.dto.StudyFeedResponseDTO;
+import com.example.demo.dto.StudyResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스터디 목록 조회 (쿼리 + row 매핑) 비용
+ * datasetSize = 스터디 수, 작성자는 스터디 10개당 1명
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StudyServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private StudyService studyService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context.getBean(JdbcTemplate.class), "{noop}",
+                Math.max(1, datasetSize / 10), datasetSize, 0, 42L);
+        studyService = context.getBean(StudyService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudyResponseDTO> getAllStudies() {
+        return studyService.getAllStudies();
+    }
+
+    @Benchmark
+    public List<StudyResponseDTO> getMyPosts() {
+        return studyService.getMyPosts("user1@example.com");
+    }
+
+    @Benchmark
+    public StudyFeedResponseDTO getStudyFeedFirstPage() {
+        return studyService.getStudyFeed(null, 20, null, null, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.service;
+
+import com.example.demo.util.ZipfSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기술 매칭 색인 추천 시간 (DB 제외, 메모리 색인만)
+ * 목표: 사용자 10만 명에서 추천 한 번 수 ms (SampleTime 의 p0.99 로 확인)
+ * - recommendStudies : 사용자 1명 → 스터디 (스터디 수 = 사용자 수 / 10)
+ * - recommendMembers : 스터디 1건 → 사용자 (흔한 기술이 많을수록 후보가 많아 느려짐)
+ * 기술 빈도는 Zipf 분포 (Java, Spring 같은 기술이 매우 흔함)
+ * ./gradlew jmh -PjmhIncludes=TechMatchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class TechMatchIndexBenchmark {
+
+    private static final String[] TECHS = {
+            "Java", "Spring", "JavaScript", "React", "Python", "MySQL", "Docker", "AWS", "TypeScript", "Kotlin",
+            "Node", "Vue", "Redis", "Django", "Go", "Kubernetes", "Kafka", "Flutter", "Swift", "Rust"};
+
+    @Param({"10000", "100000"})
+    private int datasetSize;
+
+    private TechMatchIndex index;
+    private Random random;
+    private int studyCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(42L);
+        // 흔한 기술 20개 + 드문 기술 (tech0 ~ tech1999)
+        List<String> techs = new ArrayList<>(List.of(TECHS));
+        for (int i = 0; i < 2000; i++) {
+            techs.add("tech" + i);
+        }
+        ZipfSampler zipf = new ZipfSampler(techs.size(), 1.0);
+
+        index = new TechMatchIndex(null);
+        for (long userId = 1; userId <= datasetSize; userId++) {
+            List<String> stack = new ArrayList<>();
+            for (int i = 0, n = 3 + random.nextInt(5); i < n; i++) {
+                stack.add(techs.get(zipf.sample(random) - 1));
+            }
+            index.indexProfile(userId, stack);
+        }
+
+        studyCount = datasetSize / 10;
+        for (long studyId = 1; studyId <= studyCount; studyId++) {
+            String title = techs.get(zipf.sample(random) - 1) + "을 배우는 스터디";
+            String curriculum = techs.get(zipf.sample(random) - 1) + ", " + techs.get(zipf.sample(random) - 1);
+            index.indexStudy(studyId, (long) random.nextInt(datasetSize) + 1, title, "개발", curriculum, "모집중");
+        }
+    }
+
+    @Benchmark
+    public List<TechMatchIndex.Match> recommendStudies() {
+        return index.recommendStudies((long) random.nextInt(datasetSize) + 1, 20);
+    }
+
+    @Benchmark
+    public List<TechMatchIndex.Match> recommendMembers() {
+        return index.recommendMembers((long) random.nextInt(studyCount) + 1, 20, Set.of());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import com.example.demo.BenchmarkContext;
+import com.example.demo.dto.LoginRequestDTO;
+import com.example.demo.dto.LoginResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 비용 (BCrypt strength 별 matches + 전체 login 흐름)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserServiceBenchmark {
+
+    @Param({"10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private LoginRequestDTO loginRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode(BenchmarkContext.PASSWORD);
+
+        context = BenchmarkContext.start();
+        String appEncoded = context.getBean(PasswordEncoder.class).encode(BenchmarkContext.PASSWORD);
+        BenchmarkContext.seed(context.getBean(JdbcTemplate.class), appEncoded, 10, 0, 0, 42L);
+        userService = context.getBean(UserService.class);
+
+        loginRequest = new LoginRequestDTO();
+        loginRequest.setEmail("user1@example.com");
+        loginRequest.setPassword(BenchmarkContext.PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return encoder.matches(BenchmarkContext.PASSWORD, encoded);
+    }
+
+    // 애플리케이션 설정 그대로의 로그인 (strength 파라미터와 무관)
+    @Benchmark
+    public LoginResponseDTO login() {
+        return userService.login(loginRequest);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 경로 비교
+ * - legacyValidateAndGetEmail : 호출마다 parserBuilder().build() 후 두 번 파싱 (기존 방식)
+ * - parseAndValidate          : 미리 만든 파서로 한 번만 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "devSecretKeyForDevelopmentOnlyNotForProduction12345678901234567890";
+
+    private JwtTokenProvider provider;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        provider = new JwtTokenProvider();
+        set(provider, "secretKey", SECRET);
+        set(provider, "accessTokenExpiration", 3_600_000L);
+        set(provider, "refreshTokenExpiration", 604_800_000L);
+        provider.init();
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = provider.generateAccessToken("bench@example.com");
+    }
+
+    @Benchmark
+    public String legacyValidateAndGetEmail() {
+        // validateToken
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        // getEmailFromToken
+        return Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public TokenClaims parseAndValidate() {
+        return provider.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToken("bench@example.com");
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
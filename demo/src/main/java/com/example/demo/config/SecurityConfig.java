@@ -1,6 +1,13 @@
 package com.example.demo.config;
 
+import com.example.demo.security.BCryptCostCalibrator;
+import com.example.demo.security.BoundedPasswordEncoder;
 import com.example.demo.security.JwtAuthenticationFilter;
+import com.example.demo.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -8,6 +15,7 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -15,6 +23,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Map;
+
+@Slf4j
 @Configuration
 public class SecurityConfig {
 
@@ -27,12 +38,21 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(내보내기)이 끝난 뒤의 비동기 재디스패치: 원래 요청에서 이미 인가됨
+                        // (JWT 필터는 재디스패치에서 다시 실행되지 않아 인증 정보가 없음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()    // 인증하지 않아도 접속가능한 URL
+                        // 로그인 사용자 본인 정보가 필요한 GET
+                        .requestMatchers(HttpMethod.GET, "/api/studies/my-posts", "/api/studies/my-studies", "/api/studies/temp/**").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/studies/*/participations", "/api/studies/*/recommended-members").authenticated()
+                        .requestMatchers("/api/recommendations/**").authenticated()
+                        .requestMatchers("/api/participations/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/studies/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/studies/**").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/studies/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/studies/**").authenticated()
                         .requestMatchers("/api/private/**").hasAnyRole("USER","ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -40,9 +60,31 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 비밀번호 해시: {bcrypt} 접두어 형식 (DelegatingPasswordEncoder)
+    // 접두어 없는 기존 해시($2a$...)도 확인되며, 로그인 성공 시 현재 설정으로 다시 해시된다 (upgradeEncoding)
+    // cost 는 설정값(strength) 고정, calibrate=true 일 때만 기동 시 해시 1회가 target-ms 이내가 되도록 측정해 정함
+    // 해시는 전용 스레드 풀에서만 실행 (로그인 폭주가 다른 API 의 CPU 를 뺏지 않도록)
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${password.bcrypt.strength:10}") int strength,
+                                           @Value("${password.bcrypt.calibrate:false}") boolean calibrate,
+                                           @Value("${password.bcrypt.target-ms:100}") long targetMillis,
+                                           @Value("${password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${password.bcrypt.max-strength:14}") int maxStrength,
+                                           @Value("${password.hashing.threads:0}") int threads,
+                                           @Value("${password.hashing.queue-capacity:200}") int queueCapacity,
+                                           @Value("${password.hashing.wait-timeout-ms:3000}") long waitTimeoutMillis){
+        int cost = calibrate ? BCryptCostCalibrator.calibrate(targetMillis, minStrength, maxStrength) : strength;
+        int hashThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        log.info("비밀번호 해시: BCrypt cost {} ({}), 해시 스레드 {}개",
+                cost, calibrate ? "목표 " + targetMillis + "ms 기준 측정" : "설정값", hashThreads);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(new TimedPasswordEncoder(delegating, meterRegistry),
+                hashThreads, queueCapacity, waitTimeoutMillis, meterRegistry);
     }
 
     @Bean
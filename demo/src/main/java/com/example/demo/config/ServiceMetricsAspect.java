@@ -0,0 +1,61 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 public 메서드 호출 시간 (app.service{class, method, outcome})
+ * 대상은 @Service 빈만 (조회수 카운터, 버전 레지스트리, 색인 같은 @Component 는 요청마다 불려 제외)
+ * EntityCacheService 도 다른 서비스 안에서 불리는 캐시 비우기라 제외한다.
+ * 컨트롤러는 http.server.requests, 리포지토리는 spring.data.repository.invocations 로 자동 수집된다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.metrics.service-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceMetricsAspect {
+
+    private static final String METRIC_NAME = "app.service";
+
+    private final MeterRegistry meterRegistry;
+
+    // 메서드별 성공 타이머 (매 호출마다 레지스트리 조회하지 않도록)
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.example.demo.service..*(..))"
+            + " && within(@org.springframework.stereotype.Service *)"
+            + " && !within(com.example.demo.service.EntityCacheService)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            successTimers.computeIfAbsent(method, m -> timer(joinPoint, "success"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(joinPoint, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
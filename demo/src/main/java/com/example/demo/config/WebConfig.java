@@ -0,0 +1,36 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 요청별 비동기 응답 시간 제한
+ * 핸들러가 request 속성 ASYNC_TIMEOUT_ATTRIBUTE(ms, Long)를 넣으면 그 요청만 해당 시간 제한을 쓰고
+ * 나머지 비동기 요청은 기본값을 그대로 쓴다. (예: 대용량 내보내기)
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    public static final String ASYNC_TIMEOUT_ATTRIBUTE = WebConfig.class.getName() + ".asyncTimeout";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // 비동기 처리 시작 전에 호출되므로 여기서 바꾼 시간 제한이 적용됨
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object timeout = request.getAttribute(ASYNC_TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeout instanceof Long millis && request instanceof AsyncWebRequest asyncRequest) {
+                    asyncRequest.setTimeout(millis);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.CacheStatsResponseDTO;
+import com.example.demo.service.EntityCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final EntityCacheService entityCacheService;
+
+    /**
+     * 2차 캐시 적중률 통계 (관리자)
+     * GET /api/admin/cache-stats
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatsResponseDTO> getCacheStats() {
+        return ResponseEntity.ok(entityCacheService.getStats());
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CommentPageResponseDTO;
 import com.example.demo.dto.CommentRequestDTO;
 import com.example.demo.dto.CommentResponseDTO;
+import com.example.demo.security.CustomUserDetails;
 import com.example.demo.service.CommentService;
-import com.example.demo.util.JwtTokenProvider;
+import com.example.demo.service.ContentVersionRegistry;
+import com.example.demo.service.ContentVersionRegistry.ContentVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,25 +22,66 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ContentVersionRegistry contentVersionRegistry;
 
     // 댓글 작성
     @PostMapping
     public ResponseEntity<CommentResponseDTO> createComment(
             @PathVariable Long studyId,
             @RequestBody CommentRequestDTO dto,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         CommentResponseDTO response = commentService.createComment(studyId, dto, email);
         return ResponseEntity.ok(response);
     }
 
-    // 댓글 목록 조회
+    // 댓글 목록 조회 (변경 없으면 304)
     @GetMapping
-    public ResponseEntity<List<CommentResponseDTO>> getComments(@PathVariable Long studyId) {
+    public ResponseEntity<List<CommentResponseDTO>> getComments(@PathVariable Long studyId, WebRequest request) {
+        ContentVersion version = contentVersionRegistry.comments(studyId);
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
         List<CommentResponseDTO> comments = commentService.getCommentsByStudyId(studyId);
-        return ResponseEntity.ok(comments);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(comments);
+    }
+
+    // 원댓글 페이지 조회 (cursor = 이전 페이지의 nextCursor)
+    @GetMapping("/page")
+    public ResponseEntity<CommentPageResponseDTO> getCommentPage(
+            @PathVariable Long studyId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+
+        ContentVersion version = contentVersionRegistry.comments(studyId);
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(commentService.getCommentPage(studyId, cursor, size));
+    }
+
+    // 특정 댓글의 답글 페이지 조회
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentPageResponseDTO> getReplies(
+            @PathVariable Long studyId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+
+        ContentVersion version = contentVersionRegistry.comments(studyId);
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(commentService.getReplies(studyId, commentId, cursor, size));
     }
 
     // 댓글 수정
@@ -43,9 +90,9 @@ public class CommentController {
             @PathVariable Long studyId,
             @PathVariable Long commentId,
             @RequestBody CommentRequestDTO dto,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         CommentResponseDTO response = commentService.updateComment(commentId, dto, email);
         return ResponseEntity.ok(response);
     }
@@ -55,9 +102,9 @@ public class CommentController {
     public ResponseEntity<String> deleteComment(
             @PathVariable Long studyId,
             @PathVariable Long commentId,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         commentService.deleteComment(commentId, email);
         return ResponseEntity.ok("댓글이 삭제되었습니다.");
     }
@@ -0,0 +1,79 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.WebConfig;
+import com.example.demo.service.ExportService;
+import com.example.demo.util.ExportWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+/**
+ * 전체 데이터 스트리밍 내보내기 (관리자 전용, /api/admin/**)
+ * format = ndjson(기본) | csv
+ * afterId = 이 id 다음부터 (중단된 덤프 이어받기), limit = 최대 행 수 (없으면 끝까지)
+ * 응답 시간 제한은 이 컨트롤러만 export.request-timeout 으로 늘림
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @Value("${export.request-timeout:30m}")
+    private Duration requestTimeout;
+
+    // GET /api/admin/export/studies?format=ndjson&afterId=0&limit=
+    @GetMapping("/studies")
+    public ResponseEntity<StreamingResponseBody> exportStudies(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(required = false) Long limit) {
+
+        return stream("studies", format, afterId,
+                out -> exportService.exportStudies(format, afterId, limit, out));
+    }
+
+    // GET /api/admin/export/participations?format=ndjson&afterId=0&limit=
+    @GetMapping("/participations")
+    public ResponseEntity<StreamingResponseBody> exportParticipations(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(required = false) Long limit) {
+
+        return stream("participations", format, afterId,
+                out -> exportService.exportParticipations(format, afterId, limit, out));
+    }
+
+    // GET /api/admin/export/comments?format=ndjson&afterId=0&limit=
+    @GetMapping("/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(required = false) Long limit) {
+
+        return stream("comments", format, afterId,
+                out -> exportService.exportComments(format, afterId, limit, out));
+    }
+
+    // 형식은 응답 시작 전에 검증 (스트리밍이 시작되면 상태 코드를 바꿀 수 없음)
+    private ResponseEntity<StreamingResponseBody> stream(String name, String format, Long afterId,
+                                                         StreamingResponseBody body) {
+        String contentType = ExportWriter.contentType(format);
+        RequestContextHolder.currentRequestAttributes().setAttribute(WebConfig.ASYNC_TIMEOUT_ATTRIBUTE,
+                requestTimeout.toMillis(), RequestAttributes.SCOPE_REQUEST);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "-after-" + afterId + "." + format + "\"")
+                .body(body);
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.ParticipationBatchResultDTO;
+import com.example.demo.dto.ParticipationBatchUpdateDTO;
 import com.example.demo.dto.ParticipationRequestDTO;
 import com.example.demo.dto.ParticipationResponseDTO;
 import com.example.demo.dto.ParticipationUpdateDTO;
+import com.example.demo.security.CustomUserDetails;
 import com.example.demo.service.ParticipationService;
-import com.example.demo.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -17,17 +20,18 @@ import java.util.List;
 public class ParticipationController {
 
     private final ParticipationService participationService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     // 참여 신청 생성
+    // Idempotency-Key 헤더를 보내면 같은 키로 재전송해도 중복 오류 대신 처음 신청을 반환
     @PostMapping("/studies/{studyId}/participations")
     public ResponseEntity<ParticipationResponseDTO> createParticipation(
             @PathVariable Integer studyId,
             @RequestBody ParticipationRequestDTO dto,
-            @RequestHeader("Authorization") String token) {
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        ParticipationResponseDTO response = participationService.createParticipation(studyId, dto, email);
+        String email = userDetails.getUsername();
+        ParticipationResponseDTO response = participationService.createParticipation(studyId, dto, email, idempotencyKey);
         return ResponseEntity.ok(response);
     }
 
@@ -35,9 +39,9 @@ public class ParticipationController {
     @GetMapping("/studies/{studyId}/participations")
     public ResponseEntity<List<ParticipationResponseDTO>> getParticipationsByStudyId(
             @PathVariable Integer studyId,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         List<ParticipationResponseDTO> participations = participationService.getParticipationsByStudyId(studyId, email);
         return ResponseEntity.ok(participations);
     }
@@ -45,9 +49,9 @@ public class ParticipationController {
     // 내가 신청한 참여 목록 조회
     @GetMapping("/participations/my-requests")
     public ResponseEntity<List<ParticipationResponseDTO>> getMyParticipations(
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         List<ParticipationResponseDTO> myParticipations = participationService.getMyParticipations(email);
         return ResponseEntity.ok(myParticipations);
     }
@@ -58,21 +62,33 @@ public class ParticipationController {
             @PathVariable Integer studyId,
             @PathVariable Integer participationId,
             @RequestBody ParticipationUpdateDTO dto,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         ParticipationResponseDTO response = participationService.updateParticipationStatus(studyId, participationId, dto, email);
         return ResponseEntity.ok(response);
     }
 
+    // 참여 신청 일괄 승인/거절 (스터디 작성자만)
+    @PutMapping("/studies/{studyId}/participations")
+    public ResponseEntity<ParticipationBatchResultDTO> updateParticipationStatuses(
+            @PathVariable Integer studyId,
+            @RequestBody ParticipationBatchUpdateDTO dto,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String email = userDetails.getUsername();
+        ParticipationBatchResultDTO response = participationService.updateParticipationStatuses(studyId, dto, email);
+        return ResponseEntity.ok(response);
+    }
+
     // 참여 신청 취소 (신청자 본인만)
     @DeleteMapping("/studies/{studyId}/participations/{participationId}")
     public ResponseEntity<String> deleteParticipation(
             @PathVariable Integer studyId,
             @PathVariable Integer participationId,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         participationService.deleteParticipation(studyId, participationId, email);
         return ResponseEntity.ok("참여 신청이 취소되었습니다.");
     }
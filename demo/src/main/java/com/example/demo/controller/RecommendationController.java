@@ -0,0 +1,43 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.MemberRecommendationDTO;
+import com.example.demo.dto.StudyRecommendationDTO;
+import com.example.demo.security.CustomUserDetails;
+import com.example.demo.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    // 내 기술 스택에 맞는 스터디 추천
+    // GET /api/recommendations/studies?size=
+    @GetMapping("/recommendations/studies")
+    public ResponseEntity<List<StudyRecommendationDTO>> getRecommendedStudies(
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String email = userDetails.getUsername();
+        return ResponseEntity.ok(recommendationService.getRecommendedStudies(email, size));
+    }
+
+    // 스터디에 맞는 회원 추천 (스터디 작성자만)
+    // GET /api/studies/{studyId}/recommended-members?size=
+    @GetMapping("/studies/{studyId}/recommended-members")
+    public ResponseEntity<List<MemberRecommendationDTO>> getRecommendedMembers(
+            @PathVariable Long studyId,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String email = userDetails.getUsername();
+        return ResponseEntity.ok(recommendationService.getRecommendedMembers(studyId, email, size));
+    }
+}
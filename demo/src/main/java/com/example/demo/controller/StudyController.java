@@ -1,12 +1,19 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.StudyFeedResponseDTO;
 import com.example.demo.dto.StudyRequestDTO;
 import com.example.demo.dto.StudyResponseDTO;
+import com.example.demo.dto.StudySummaryDTO;
+import com.example.demo.security.CustomUserDetails;
+import com.example.demo.service.ContentVersionRegistry;
+import com.example.demo.service.ContentVersionRegistry.ContentVersion;
 import com.example.demo.service.StudyService;
-import com.example.demo.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,61 +23,106 @@ import java.util.List;
 public class StudyController {
 
     private final StudyService studyService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ContentVersionRegistry contentVersionRegistry;
 
     @PostMapping
     public ResponseEntity<StudyResponseDTO> createStudy(
             @RequestBody StudyRequestDTO dto,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         StudyResponseDTO response = studyService.createStudy(dto, email);
         return ResponseEntity.ok(response);
     }
 
+    // 목록/상세 GET 은 ETag, Last-Modified 로 변경이 없으면 DB 조회 없이 304 응답
     @GetMapping
-    public ResponseEntity<List<StudyResponseDTO>> getAllStudies() {
-        return ResponseEntity.ok(studyService.getAllStudies());
+    public ResponseEntity<List<StudyResponseDTO>> getAllStudies(WebRequest request) {
+        ContentVersion version = contentVersionRegistry.studyList();
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(studyService.getAllStudies());
+    }
+
+    // 스터디 피드 (커서 기반, 필터 지원)
+    // GET /api/studies/feed?cursor=&size=&category=&status=&location=
+    @GetMapping("/feed")
+    public ResponseEntity<StudyFeedResponseDTO> getStudyFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String location,
+            WebRequest request) {
+
+        ContentVersion version = contentVersionRegistry.studyList();
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(studyService.getStudyFeed(cursor, size, category, status, location));
+    }
+
+    // 스터디 검색
+    // GET /api/studies/search?q=&size=
+    @GetMapping("/search")
+    public ResponseEntity<List<StudySummaryDTO>> searchStudies(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer size) {
+
+        return ResponseEntity.ok(studyService.searchStudies(q, size));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StudyResponseDTO> getStudyById(@PathVariable Long id) {
-        return ResponseEntity.ok(studyService.getStudyById(id));
+    public ResponseEntity<StudyResponseDTO> getStudyById(@PathVariable Long id, WebRequest request) {
+        ContentVersion version = contentVersionRegistry.study(id);
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            // 본문은 보내지 않아도 조회수는 기록
+            studyService.recordView(id);
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(studyService.getStudyById(id));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<StudyResponseDTO> updateStudy(
             @PathVariable Long id,
             @RequestBody StudyRequestDTO dto,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         return ResponseEntity.ok(studyService.updateStudy(id, dto, email));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteStudy(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         studyService.deleteStudy(id, email);
         return ResponseEntity.ok("스터디가 삭제되었습니다.");
     }
 
     @GetMapping("/my-posts")
     public ResponseEntity<List<StudyResponseDTO>> getMyPosts(
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         return ResponseEntity.ok(studyService.getMyPosts(email));
     }
 
     @GetMapping("/my-studies")
     public ResponseEntity<List<StudyResponseDTO>> getMyStudies(
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         return ResponseEntity.ok(studyService.getMyPosts(email));
     }
 
@@ -78,18 +130,18 @@ public class StudyController {
     @PostMapping("/temp")
     public ResponseEntity<StudyResponseDTO> saveTempStudy(
             @RequestBody StudyRequestDTO dto,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         return ResponseEntity.ok(studyService.saveTempStudy(dto, email));
     }
 
     // ⭐ 최신 임시저장 불러오기
     @GetMapping("/temp/latest")
     public ResponseEntity<StudyResponseDTO> getLatestTempStudy(
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        String email = userDetails.getUsername();
         return ResponseEntity.ok(studyService.getLatestTempStudy(email));
     }
 }
\ No newline at end of file
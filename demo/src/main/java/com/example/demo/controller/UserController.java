@@ -5,6 +5,8 @@ import com.example.demo.dto.LoginResponseDTO;
 import com.example.demo.dto.UserRequestDTO;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PrincipalCache;
+import com.example.demo.service.EntityCacheService;
 import com.example.demo.service.UserService;
 import com.example.demo.util.JwtTokenProvider;
 import jakarta.servlet.http.Cookie;
@@ -24,6 +26,8 @@ public class UserController {
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final EntityCacheService entityCacheService;
 
     // localhost:8080/api/auth/signup로 요청이 들어왔을때 signup 함수 실행
     @PostMapping("/signup")
@@ -59,6 +63,8 @@ public class UserController {
 
         user.setRefreshToken(null);
         userRepository.save(user);  // DB의 refresh토큰 비워서 accesstoken 못받게함 (로그아웃 했으니)
+        principalCache.evict(email);
+        entityCacheService.evictUser(user.getId());
 
         Cookie refreshCookie = new Cookie("refreshToken",null);
         refreshCookie.setPath("/");
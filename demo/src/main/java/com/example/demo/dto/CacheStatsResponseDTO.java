@@ -0,0 +1,36 @@
+package com.example.demo.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponseDTO {
+    private boolean statisticsEnabled;
+    private long secondLevelHitCount;
+    private long secondLevelMissCount;
+    private double secondLevelHitRatio;
+    private long naturalIdHitCount;  // email → id 조회
+    private long naturalIdMissCount;
+    private long queryHitCount;
+    private long queryMissCount;
+    private List<Region> regions;
+
+    // 캐시 영역(user, profile, study ...)별 통계
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Region {
+        private String name;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private double hitRatio;
+        private long elementCountInMemory;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentPageResponseDTO {
+    private List<CommentResponseDTO> items;
+    private Long nextCursor;  // 다음 페이지 요청 시 cursor 로 전달 (없으면 null)
+    private boolean hasNext;
+}
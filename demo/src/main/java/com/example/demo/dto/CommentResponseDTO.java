@@ -19,6 +19,7 @@ public class CommentResponseDTO {
     private Long parentId;  // 부모 댓글 ID (null이면 원댓글)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer replyCount;  // 바로 아래 답글 수 (페이지 조회 시에만 채워짐)
 
     @Builder.Default
     private List<CommentResponseDTO> replies = new ArrayList<>();  // 대댓글 목록
@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberRecommendationDTO {
+    private Long userId;
+    private String name;
+    private double score;  // 0 ~ 1 (기술 스택 일치도)
+}
@@ -0,0 +1,35 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Participation.ParticipationStatus;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipationBatchResultDTO {
+    private ParticipationStatus status;  // 요청한 상태
+    private int updatedCount;            // 실제 변경된 건수 (= outcome 이 UPDATED 인 항목 수)
+    private List<Item> results;          // 요청한 id 별 처리 결과
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Integer participationId;
+        private boolean success;   // 요청한 상태가 되었는지 (UPDATED, UNCHANGED)
+        private Outcome outcome;
+        private String message;
+    }
+
+    public enum Outcome {
+        UPDATED,    // 상태가 바뀜
+        UNCHANGED,  // 이미 요청한 상태
+        NOT_FOUND   // 해당 스터디의 신청이 아님
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Participation.ParticipationStatus;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipationBatchUpdateDTO {
+    private List<Integer> participationIds; // 처리할 참여 신청 id 목록
+    private ParticipationStatus status;     // APPROVED 또는 REJECTED
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyFeedResponseDTO {
+
+    private List<StudySummaryDTO> items;
+
+    private String nextCursor;   // 다음 페이지 요청 시 그대로 전달 (없으면 null)
+    private boolean hasNext;     // 다음 페이지 존재 여부
+}
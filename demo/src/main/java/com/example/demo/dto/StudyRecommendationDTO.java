@@ -0,0 +1,13 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyRecommendationDTO {
+    private StudySummaryDTO study;
+    private double score;  // 0 ~ 1 (기술 스택 일치도)
+}
@@ -0,0 +1,32 @@
+package com.example.demo.dto;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudySummaryDTO {
+
+    private Long id;
+    private String title;
+
+    private String status;
+    private String category;
+    private String schedule;
+    private String location;
+    private Integer recruitCount;
+
+    private String author;
+    private Integer views;
+
+    // study_stats 집계 / 승인 인원
+    private Integer commentCount;
+    private Integer applicantCount;
+    private Integer approvedCount;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -8,7 +8,12 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 원댓글 페이지: WHERE study_id = ? AND parent_id IS NULL AND id > ?
+        @Index(name = "idx_comment_study_parent", columnList = "study_id, parent_id, id"),
+        // 답글 페이지 / 답글 수: WHERE parent_id = ? AND id > ?
+        @Index(name = "idx_comment_parent", columnList = "parent_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
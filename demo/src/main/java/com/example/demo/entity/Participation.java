@@ -8,7 +8,15 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "participation")
+@Table(name = "participation",
+        // 같은 스터디에 한 사용자당 신청 1건
+        uniqueConstraints = @UniqueConstraint(name = "uk_participation_study_user", columnNames = {"study_id", "user_id"}),
+        indexes = {
+                // 내 참여 신청 목록
+                @Index(name = "idx_participation_user", columnList = "user_id, created_at"),
+                // 상태별 조회 / 집계 보정
+                @Index(name = "idx_participation_study_status", columnList = "study_id, status")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +41,9 @@ public class Participation {
     @Column(columnDefinition = "TEXT")
     private String message; // 신청 메시지
 
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey; // 신청 요청의 Idempotency-Key (같은 키로 재전송하면 기존 신청 반환)
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
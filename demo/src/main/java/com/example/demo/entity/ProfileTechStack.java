@@ -2,32 +2,59 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 
+// (profile_id, tech) 복합키: 생성 id 가 없어야 INSERT 를 JDBC batch 로 묶을 수 있음
 @Entity
 @Table(name = "profile_tech_stack")
+@IdClass(ProfileTechStackId.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ProfileTechStack {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profile-tech-stack")
+public class ProfileTechStack implements Persistable<ProfileTechStackId> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
     @Column(name = "profile_id", nullable = false)
     private Long profileId;
 
+    @Id
     @Column(nullable = false, length = 100)
     private String tech;
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // 키를 직접 지정하므로 save() 가 merge(SELECT) 대신 persist 하도록 새 엔티티 여부를 따로 관리
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public ProfileTechStackId getId() {
+        return new ProfileTechStackId(profileId, tech);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        newEntity = false;
+    }
 }
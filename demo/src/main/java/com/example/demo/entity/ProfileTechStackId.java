@@ -0,0 +1,15 @@
+package com.example.demo.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+// ProfileTechStack 복합키
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProfileTechStackId implements Serializable {
+    private Long profileId;
+    private String tech;
+}
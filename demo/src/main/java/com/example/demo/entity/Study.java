@@ -2,18 +2,31 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "study")
+@Table(name = "study", indexes = {
+        // 피드 keyset 페이지네이션 (is_temp, created_at, id)
+        @Index(name = "idx_study_feed", columnList = "is_temp, created_at, id"),
+        // 필터별 피드 조회
+        @Index(name = "idx_study_category_feed", columnList = "category, is_temp, created_at, id"),
+        @Index(name = "idx_study_status_feed", columnList = "status, is_temp, created_at, id"),
+        @Index(name = "idx_study_location_feed", columnList = "location, is_temp, created_at, id"),
+        // 내가 작성한 글 / 최근 임시저장 글
+        @Index(name = "idx_study_author", columnList = "author_id, is_temp, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "study")
 public class Study {
 
     @Id
@@ -44,6 +57,12 @@ public class Study {
     @Column(name="recruit_count")
     private Integer recruitCount;
 
+    // 승인된 참여 인원 (ParticipationService 에서 조건부 UPDATE 로만 변경)
+    @Builder.Default
+    @Column(name = "approved_count", columnDefinition = "INT NOT NULL DEFAULT 0",
+            insertable = false, updatable = false)
+    private Integer approvedCount = 0;
+
     @Column
     private String curriculum;
 
@@ -0,0 +1,35 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스터디별 집계 (피드 카드의 댓글 수 / 신청자 수)
+ * 댓글·참여 신청 변경 시 증감분(delta)으로만 갱신하고, 어긋난 값은 StudyStatsReconciler 가 보정한다.
+ * 승인 인원은 정원 확인에 쓰는 study.approved_count 를 그대로 사용.
+ */
+@Entity
+@Table(name = "study_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyStats {
+
+    @Id
+    @Column(name = "study_id")
+    private Long studyId;
+
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+
+    // 상태와 무관한 전체 참여 신청 수
+    @Column(name = "applicant_count", nullable = false)
+    private Integer applicantCount = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
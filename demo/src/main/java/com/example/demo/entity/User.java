@@ -2,14 +2,24 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
-@Table(name = "user")
+@Table(name = "user", indexes = {
+        // 이름 중복 확인 / 공개 프로필 조회
+        @Index(name = "idx_user_name", columnList = "name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 public class User {
 
     @Id
@@ -17,6 +27,7 @@ public class User {
 
     private Long id;
 
+    @NaturalId
     private String email;
     private String password;
     private String role;
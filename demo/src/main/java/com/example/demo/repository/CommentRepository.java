@@ -10,12 +10,39 @@ import java.util.List;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    // CommentView 컬럼 (별칭 = 프로젝션 getter 이름)
+    String COMMENT_COLUMNS = "c.id AS id, c.study_id AS studyId, c.parent_id AS parentId, " +
+            "c.content AS content, c.created_at AS createdAt, c.updated_at AS updatedAt, u.name AS author";
+
     // 특정 스터디의 댓글을 작성자 이름과 함께 조회 (Native Query)
     // parent_id 포함하여 계층 구조 유지
-    @Query(value = "SELECT c.*, u.name as author_name FROM comment c " +
+    @Query(value = "SELECT " + COMMENT_COLUMNS + " FROM comment c " +
                    "LEFT JOIN user u ON c.author_id = u.id " +
                    "WHERE c.study_id = ?1 " +
                    "ORDER BY COALESCE(c.parent_id, c.id), c.parent_id IS NULL DESC, c.created_at ASC",
                    nativeQuery = true)
-    List<Object[]> findByStudyIdWithAuthor(Long studyId);
+    List<CommentView> findByStudyIdWithAuthor(Long studyId);
+
+    // 원댓글 페이지 조회 (id 커서 기반, 오래된 순)
+    @Query(value = "SELECT " + COMMENT_COLUMNS + " FROM comment c " +
+                   "LEFT JOIN user u ON c.author_id = u.id " +
+                   "WHERE c.study_id = :studyId AND c.parent_id IS NULL AND c.id > :afterId " +
+                   "ORDER BY c.id ASC LIMIT :limit",
+                   nativeQuery = true)
+    List<CommentView> findRootPageWithAuthor(Long studyId, Long afterId, int limit);
+
+    // 특정 댓글의 바로 아래 답글 페이지 조회 (id 커서 기반, 오래된 순)
+    @Query(value = "SELECT " + COMMENT_COLUMNS + " FROM comment c " +
+                   "LEFT JOIN user u ON c.author_id = u.id " +
+                   "WHERE c.parent_id = :parentId AND c.id > :afterId " +
+                   "ORDER BY c.id ASC LIMIT :limit",
+                   nativeQuery = true)
+    List<CommentView> findReplyPageWithAuthor(Long parentId, Long afterId, int limit);
+
+    // 부모 댓글별 답글 수
+    @Query(value = "SELECT c.parent_id AS parentId, COUNT(*) AS replyCount FROM comment c " +
+                   "WHERE c.parent_id IN (:parentIds) " +
+                   "GROUP BY c.parent_id",
+                   nativeQuery = true)
+    List<ReplyCountView> countRepliesByParentIds(List<Long> parentIds);
 }
@@ -0,0 +1,21 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 프로젝션 + 작성자 이름
+public interface CommentView {
+
+    Long getId();
+
+    Long getStudyId();
+
+    Long getParentId();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getAuthor();
+}
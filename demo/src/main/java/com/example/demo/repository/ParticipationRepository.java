@@ -2,8 +2,14 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.Participation;
 import com.example.demo.entity.Participation.ParticipationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,26 +18,82 @@ import java.util.Optional;
 @Repository
 public interface ParticipationRepository extends JpaRepository<Participation, Integer> {
 
+    // ParticipationView 공통 컬럼 (별칭 = 프로젝션 getter 이름)
+    String PARTICIPATION_COLUMNS = "p.id AS id, p.study_id AS studyId, p.user_id AS userId, " +
+            "p.status AS status, p.message AS message, p.created_at AS createdAt, p.updated_at AS updatedAt";
+
     // 특정 스터디의 모든 참여 신청 조회 (사용자 이름 포함)
-    @Query(value = "SELECT p.*, u.name as user_name FROM participation p " +
+    @Query(value = "SELECT " + PARTICIPATION_COLUMNS + ", u.name AS userName, NULL AS studyTitle " +
+                   "FROM participation p " +
                    "LEFT JOIN user u ON p.user_id = u.id " +
                    "WHERE p.study_id = :studyId " +
                    "ORDER BY p.created_at DESC", nativeQuery = true)
-    List<Object[]> findByStudyIdWithUser(Integer studyId);
+    List<ParticipationView> findByStudyIdWithUser(Integer studyId);
 
     // 특정 사용자의 모든 참여 신청 조회 (스터디 정보 포함)
-    @Query(value = "SELECT p.*, s.title as study_title FROM participation p " +
+    @Query(value = "SELECT " + PARTICIPATION_COLUMNS + ", NULL AS userName, s.title AS studyTitle " +
+                   "FROM participation p " +
                    "LEFT JOIN study s ON p.study_id = s.id " +
                    "WHERE p.user_id = :userId " +
                    "ORDER BY p.created_at DESC", nativeQuery = true)
-    List<Object[]> findByUserIdWithStudy(Integer userId);
+    List<ParticipationView> findByUserIdWithStudy(Integer userId);
 
-    // 특정 사용자가 특정 스터디에 이미 신청했는지 확인
+    // 특정 사용자의 특정 스터디 신청 (uk_participation_study_user)
     Optional<Participation> findByStudyIdAndUserId(Integer studyId, Integer userId);
 
+    // 위와 같은 조회의 잠금 읽기 (insertIfAbsent 직후 전용, 트랜잭션 안에서만 호출)
+    // MySQL 의 REPEATABLE READ 스냅샷이 아니라 최신 커밋 값을 읽으므로,
+    // insertIfAbsent 가 다른 트랜잭션과 경합해 0건이 된 직후에도 상대가 넣은 행이 보인다.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT p FROM Participation p WHERE p.studyId = :studyId AND p.userId = :userId")
+    Optional<Participation> findByStudyIdAndUserIdForShare(Integer studyId, Integer userId);
+
     // 특정 스터디의 승인된 참여 목록
     List<Participation> findByStudyIdAndStatus(Integer studyId, ParticipationStatus status);
 
-    // 중복 신청 방지: 이미 신청한 적이 있는지 확인
-    boolean existsByStudyIdAndUserId(Integer studyId, Integer userId);
+    // 해당 스터디에 신청한 사용자 id
+    @Query("SELECT p.userId FROM Participation p WHERE p.studyId = :studyId")
+    List<Integer> findUserIdsByStudyId(Integer studyId);
+
+    // 일괄 처리 대상 중 해당 스터디에 속한 신청과 현재 상태
+    // 대상 행을 잠가 두므로 이어지는 UPDATE 의 변경 건수가 여기서 읽은 상태와 어긋나지 않는다
+    @Query(value = "SELECT id AS id, status AS status FROM participation " +
+                   "WHERE study_id = :studyId AND id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<ParticipationStatusView> findStatusesForUpdate(Integer studyId, List<Integer> ids);
+
+    // 참여 신청 (같은 스터디/사용자 신청이 이미 있으면 아무것도 하지 않음): 삽입되면 1, 이미 있으면 0
+    // 중복 판단은 uk_participation_study_user 가 하므로 동시 요청도 한 건만 들어감
+    // (ON DUPLICATE KEY UPDATE 는 드라이버 기본값(useAffectedRows=false)에서 중복도 1 로 돌려줘 구분 불가 → INSERT IGNORE)
+    // 주의: IGNORE 는 중복 키뿐 아니라 외래 키 위반, NOT NULL 위반, 값 잘림 같은 오류도 경고로 바꿔 0 (또는 잘린 값으로 1) 을 돌려준다.
+    // 스터디/사용자 존재, 상태 값, Idempotency-Key 길이는 호출 전에 검증되어 있어야 한다 (ParticipationService.createParticipation).
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "participation"))
+    @Query(value = "INSERT IGNORE INTO participation " +
+                   "(study_id, user_id, status, message, idempotency_key, created_at, updated_at) " +
+                   "VALUES (:studyId, :userId, :status, :message, :idempotencyKey, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int insertIfAbsent(Integer studyId, Integer userId, String status, String message, String idempotencyKey);
+
+    // 상태 변경 native UPDATE 는 participation 테이블만 영향 (지정하지 않으면 2차 캐시 전체가 비워짐)
+
+    // 참여 신청 상태 일괄 변경 (한 번의 UPDATE, 이미 같은 상태인 건은 제외)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "participation"))
+    @Query(value = "UPDATE participation SET status = :status, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (:ids) AND study_id = :studyId AND status <> :status", nativeQuery = true)
+    int updateStatusByIds(Integer studyId, List<Integer> ids, String status);
+
+    // 현재 상태가 expected 인 건만 일괄 변경
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "participation"))
+    @Query(value = "UPDATE participation SET status = :status, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (:ids) AND study_id = :studyId AND status = :expected", nativeQuery = true)
+    int updateStatusByIdsFromStatus(Integer studyId, List<Integer> ids, String status, String expected);
+
+    // 현재 상태가 expected 일 때만 변경 (동시 요청으로 같은 전이가 두 번 반영되는 것 방지)
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "participation"))
+    @Query(value = "UPDATE participation SET status = :status, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :id AND status = :expected", nativeQuery = true)
+    int updateStatusIfCurrent(Integer id, String status, String expected);
 }
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Participation.ParticipationStatus;
+
+// 참여 신청 id 와 현재 상태 프로젝션 (일괄 처리 대상 확인용)
+public interface ParticipationStatusView {
+
+    Integer getId();
+
+    ParticipationStatus getStatus();
+}
@@ -0,0 +1,28 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Participation.ParticipationStatus;
+
+import java.time.LocalDateTime;
+
+// 참여 신청 목록 프로젝션
+// userName / studyTitle 은 조인한 쪽만 채워지고 나머지는 null
+public interface ParticipationView {
+
+    Integer getId();
+
+    Integer getStudyId();
+
+    Integer getUserId();
+
+    ParticipationStatus getStatus();
+
+    String getMessage();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getUserName();
+
+    String getStudyTitle();
+}
@@ -1,12 +1,17 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Profile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
+    // 쿼리 캐시 (profile 테이블이 바뀌면 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Profile> findByUserId(Long userId);
     boolean existsByUserId(Long userId);
     void deleteByUserId(Long userId);
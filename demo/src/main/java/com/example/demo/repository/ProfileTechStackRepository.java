@@ -1,12 +1,25 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.ProfileTechStack;
+import com.example.demo.entity.ProfileTechStackId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ProfileTechStackRepository extends JpaRepository<ProfileTechStack, Long> {
+public interface ProfileTechStackRepository extends JpaRepository<ProfileTechStack, ProfileTechStackId> {
+    // 쿼리 캐시 (profile_tech_stack 테이블이 바뀌면 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ProfileTechStack> findByProfileId(Long profileId);
-    void deleteByProfileId(Long profileId);
-}
\ No newline at end of file
+
+    // 빠진 기술만 한 번의 DELETE 로 삭제
+    @Modifying
+    @Query("DELETE FROM ProfileTechStack t WHERE t.profileId = :profileId AND t.tech IN :techs")
+    int deleteByProfileIdAndTechIn(Long profileId, Collection<String> techs);
+}
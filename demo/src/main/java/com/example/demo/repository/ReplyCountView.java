@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+// 부모 댓글별 답글 수
+public interface ReplyCountView {
+
+    Long getParentId();
+
+    Integer getReplyCount();
+}
@@ -1,30 +1,127 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Study;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StudyRepository extends JpaRepository<Study, Long> {
 
+    // StudyView 컬럼 (별칭 = 프로젝션 getter 이름)
+    String STUDY_COLUMNS = "s.id AS id, s.title AS title, s.description AS description, " +
+            "s.status AS status, s.category AS category, s.schedule AS schedule, " +
+            "s.location AS location, s.recruit_count AS recruitCount, s.curriculum AS curriculum, " +
+            "s.views AS views, s.is_temp AS isTemp, s.created_at AS createdAt, " +
+            "s.updated_at AS updatedAt, u.name AS author";
+
+    // StudySummaryView 컬럼 (긴 TEXT 컬럼 제외, 집계는 SUMMARY_JOINS 의 study_stats 에서)
+    String SUMMARY_COLUMNS = "s.id AS id, s.title AS title, s.status AS status, s.category AS category, " +
+            "s.schedule AS schedule, s.location AS location, s.recruit_count AS recruitCount, " +
+            "s.views AS views, s.created_at AS createdAt, s.updated_at AS updatedAt, u.name AS author, " +
+            "COALESCE(st.comment_count, 0) AS commentCount, " +
+            "COALESCE(st.applicant_count, 0) AS applicantCount, s.approved_count AS approvedCount";
+
+    // SUMMARY_COLUMNS 에 필요한 조인 (작성자 이름, 집계)
+    String SUMMARY_JOINS = "LEFT JOIN user u ON s.author_id = u.id " +
+            "LEFT JOIN study_stats st ON st.study_id = s.id ";
+
     // 전체 스터디 + 작성자 이름 포함 조회
-    @Query(value = "SELECT s.*, u.name AS author_name FROM study s " +
+    @Query(value = "SELECT " + STUDY_COLUMNS + " FROM study s " +
             "LEFT JOIN user u ON s.author_id = u.id " +
             "WHERE s.is_temp = false " +
             "ORDER BY s.created_at DESC",
             nativeQuery = true)
-    List<Object[]> findAllWithAuthor();
+    List<StudyView> findAllWithAuthor();
 
     // 특정 작성자 스터디 + 작성자 이름 포함 조회
-    @Query(value = "SELECT s.*, u.name AS author_name FROM study s " +
+    @Query(value = "SELECT " + STUDY_COLUMNS + " FROM study s " +
             "LEFT JOIN user u ON s.author_id = u.id " +
             "WHERE s.author_id = :authorId AND s.is_temp = false " +
             "ORDER BY s.created_at DESC",
             nativeQuery = true)
-    List<Object[]> findByAuthorIdWithAuthor(Long authorId);
+    List<StudyView> findByAuthorIdWithAuthor(Long authorId);
+
+    // 스터디 피드 첫 페이지 (created_at, id 기준 keyset, 긴 TEXT 컬럼 제외)
+    // category / status / location 은 null 이면 필터 미적용
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " " +
+            "FROM study s " + SUMMARY_JOINS +
+            "WHERE s.is_temp = false " +
+            "AND (:category IS NULL OR s.category = :category) " +
+            "AND (:status IS NULL OR s.status = :status) " +
+            "AND (:location IS NULL OR s.location = :location) " +
+            "ORDER BY s.created_at DESC, s.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<StudySummaryView> findFeedFirstPage(String category, String status, String location, int limit);
+
+    // 스터디 피드 다음 페이지: 커서(createdAt, id) 보다 이전 글만 조회
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " " +
+            "FROM study s " + SUMMARY_JOINS +
+            "WHERE s.is_temp = false " +
+            "AND (:category IS NULL OR s.category = :category) " +
+            "AND (:status IS NULL OR s.status = :status) " +
+            "AND (:location IS NULL OR s.location = :location) " +
+            "AND (s.created_at < :cursorCreatedAt " +
+            "     OR (s.created_at = :cursorCreatedAt AND s.id < :cursorId)) " +
+            "ORDER BY s.created_at DESC, s.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<StudySummaryView> findFeedAfter(String category, String status, String location,
+                                         LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    // id 목록으로 스터디 요약 조회 (검색 결과용, 순서는 호출 측에서 정렬)
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM study s " + SUMMARY_JOINS +
+            "WHERE s.id IN (:ids) AND s.is_temp = false",
+            nativeQuery = true)
+    List<StudySummaryView> findSummariesByIds(List<Long> ids);
+
+    // 모집 인원 확보: 남은 자리가 seats 이상일 때만 증가 (0 이면 정원 초과)
+    // 정원이 차면 모집완료로 변경 (status 를 먼저 계산해야 증가 전 값 기준으로 판단됨)
+    // native UPDATE 는 영향 테이블을 지정하지 않으면 2차 캐시 전체가 비워지므로 study 만 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "study"))
+    @Query(value = "UPDATE study SET " +
+            "status = CASE WHEN recruit_count IS NOT NULL AND approved_count + :seats >= recruit_count " +
+            "THEN '모집완료' ELSE status END, " +
+            "approved_count = approved_count + :seats " +
+            "WHERE id = :studyId AND (recruit_count IS NULL OR approved_count + :seats <= recruit_count)",
+            nativeQuery = true)
+    int claimSeats(Long studyId, int seats);
+
+    // 모집 인원 반환 (승인 취소/거절, 승인된 신청 삭제 시)
+    // 정원이 차서 모집완료였던 스터디는 자리가 나면 모집중으로 되돌림
+    // (정원이 차지 않았는데 작성자가 직접 모집완료로 바꾼 경우는 그대로)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "study"))
+    @Query(value = "UPDATE study SET " +
+            "status = CASE WHEN status = '모집완료' AND recruit_count IS NOT NULL " +
+            "AND approved_count >= recruit_count AND GREATEST(approved_count - :seats, 0) < recruit_count " +
+            "THEN '모집중' ELSE status END, " +
+            "approved_count = GREATEST(approved_count - :seats, 0) " +
+            "WHERE id = :studyId",
+            nativeQuery = true)
+    int releaseSeats(Long studyId, int seats);
+
+    // 수정용 잠금 조회: 모집 인원 UPDATE(claimSeats/releaseSeats)와 순서가 정해져
+    // 읽은 approved_count 로 정한 상태가 그 사이 바뀌지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Study s WHERE s.id = :id")
+    Optional<Study> findByIdForUpdate(Long id);
+
+    // 모집 인원 반영 직후의 상태 (같은 트랜잭션에서 방금 UPDATE 한 값)
+    @Query(value = "SELECT status FROM study WHERE id = :studyId", nativeQuery = true)
+    String findStatusById(Long studyId);
 
     // ⭐ 최신 임시저장 1개 가져오기
     @Query(value = "SELECT * FROM study " +
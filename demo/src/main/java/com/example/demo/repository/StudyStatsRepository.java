@@ -0,0 +1,32 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.StudyStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StudyStatsRepository extends JpaRepository<StudyStats, Long> {
+
+    // 집계 증감 (행이 없으면 생성): COUNT(*) 없이 한 문장으로 반영
+    // native 문은 영향 테이블을 지정하지 않으면 2차 캐시 전체가 비워지므로 study_stats 만 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "study_stats"))
+    @Query(value = "INSERT INTO study_stats (study_id, comment_count, applicant_count, updated_at) " +
+            "VALUES (:studyId, GREATEST(:commentDelta, 0), GREATEST(:applicantDelta, 0), CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "comment_count = GREATEST(comment_count + :commentDelta, 0), " +
+            "applicant_count = GREATEST(applicant_count + :applicantDelta, 0), " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int addDeltas(Long studyId, int commentDelta, int applicantDelta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "study_stats"))
+    @Query(value = "DELETE FROM study_stats WHERE study_id = :studyId", nativeQuery = true)
+    int deleteByStudyId(Long studyId);
+}
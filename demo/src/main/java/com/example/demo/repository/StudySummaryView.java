@@ -0,0 +1,36 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+// 스터디 목록(피드)용 슬림 프로젝션
+// description, curriculum 같은 긴 TEXT 컬럼은 조회하지 않음
+public interface StudySummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getStatus();
+
+    String getCategory();
+
+    String getSchedule();
+
+    String getLocation();
+
+    Integer getRecruitCount();
+
+    Integer getViews();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getAuthor();
+
+    Integer getCommentCount();
+
+    Integer getApplicantCount();
+
+    Integer getApprovedCount();
+}
@@ -0,0 +1,35 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+// 스터디 목록(전체 필드) 프로젝션 + 작성자 이름
+public interface StudyView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getStatus();
+
+    String getCategory();
+
+    String getSchedule();
+
+    String getLocation();
+
+    Integer getRecruitCount();
+
+    String getCurriculum();
+
+    Integer getViews();
+
+    Boolean getIsTemp();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getAuthor();
+}
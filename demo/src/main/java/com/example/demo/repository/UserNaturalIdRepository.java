@@ -0,0 +1,10 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+
+import java.util.Optional;
+
+// 이메일(natural-id) 조회: 2차 캐시(user-natural-id → user 영역)에 있으면 DB 조회 없이 반환
+public interface UserNaturalIdRepository {
+    Optional<User> findByEmail(String email);
+}
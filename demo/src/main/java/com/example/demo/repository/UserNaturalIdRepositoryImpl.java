@@ -0,0 +1,24 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
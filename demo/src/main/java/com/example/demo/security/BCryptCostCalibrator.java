@@ -0,0 +1,47 @@
+package com.example.demo.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * BCrypt cost 측정: 해시 1회가 targetMillis 를 넘지 않는 가장 큰 cost (minStrength ~ maxStrength)
+ * minStrength 에서 걸린 시간을 재고, cost 가 1 오를 때마다 시간이 2배가 되는 것으로 계산한다.
+ * 가장 낮은 cost 도 목표를 넘으면 minStrength (보안 하한은 지킴).
+ */
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt cost 범위가 잘못되었습니다: " + minStrength + " ~ " + maxStrength);
+        }
+        double baseMillis = measureMillis(minStrength);
+
+        int strength = minStrength;
+        while (strength < maxStrength && baseMillis * (1L << (strength + 1 - minStrength)) <= targetMillis) {
+            strength++;
+        }
+        return strength;
+    }
+
+    // 해시 1회 시간 (ms, 중앙값) - 첫 회는 JIT 워밍업으로 버림
+    public static double measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 계산을 전용 스레드 풀(threads 개)에서만 실행하는 PasswordEncoder 래퍼
+ * 로그인이 몰려도 BCrypt 가 쓰는 CPU 는 threads 개 코어로 제한되어 다른 API 가 밀리지 않는다.
+ * 실행 중 + 대기 중인 해시가 threads + queueCapacity 개면 새 요청은 바로 거절하고,
+ * waitTimeoutMillis 안에 끝나지 않으면 호출자에게는 바로 실패를 돌려준다.
+ * 실행 중인 BCrypt 는 인터럽트로 멈추지 않으므로, 포기한 해시도 끝날 때까지 자리(admission)를 차지한다.
+ * (대기 중에 포기한 해시는 실행하지 않고 바로 자리를 반환)
+ * (password.hashing.queue = 대기 중인 해시 수, password.hashing.rejected = 거절 수)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 비밀번호를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    // 실행 중 + 대기 중인 해시 수 제한 (threads + queueCapacity)
+    private final Semaphore admission;
+    private final long waitTimeoutMillis;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitTimeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.admission = new Semaphore(threads + queueCapacity);
+
+        // 대기열 길이는 admission 으로 제한되므로 큐 자체는 제한하지 않음
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        Gauge.builder("password.hashing.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(run(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 해시의 접두어/cost 만 확인하므로 호출 스레드에서 바로 처리
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        if (!admission.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new RuntimeException(BUSY_MESSAGE);
+        }
+
+        // 실행을 시작한 쪽(워커) 또는 포기한 쪽(호출자) 중 먼저 가져간 쪽이 자리를 반환
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return task.call();
+                } finally {
+                    admission.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            admission.release();
+            rejectedCounter.increment();
+            throw new RuntimeException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(future, claimed);
+            rejectedCounter.increment();
+            throw new RuntimeException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            abandon(future, claimed);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비밀번호 확인이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // 아직 시작하지 않았으면 실행하지 않도록 표시하고 자리 반환 (이미 실행 중이면 끝날 때 워커가 반환)
+    private void abandon(Future<?> future, AtomicBoolean claimed) {
+        if (claimed.compareAndSet(false, true)) {
+            future.cancel(false);
+            admission.release();
+        }
+    }
+
+    // 서버 종료 시 (@Bean 의 close 자동 호출)
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
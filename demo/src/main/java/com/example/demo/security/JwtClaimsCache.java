@@ -0,0 +1,79 @@
+package com.example.demo.security;
+
+import com.example.demo.util.JwtTokenProvider;
+import com.example.demo.util.TokenClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰의 클레임(이메일, 만료시각) 캐시
+ * 같은 토큰은 만료 전까지 서명 검증을 다시 하지 않는다.
+ * 항목마다 토큰 만료 시각에 맞춰 사라지고, 최대 개수를 넘으면 덜 쓰인 항목부터 내보낸다
+ * (요청 스레드에서 전체를 훑는 정리 없음).
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private final Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String token, VerifiedToken value, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt - System.currentTimeMillis()));
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, VerifiedToken value, long currentTime,
+                                              long currentDuration) {
+                    return expireAfterCreate(token, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String token, VerifiedToken value, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // 서명 검증 시간 (캐시 미스만) / 캐시 적중 횟수
+    private final Timer verificationTimer;
+    private final Counter cacheHitCounter;
+
+    public JwtClaimsCache(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verificationTimer = Timer.builder("jwt.verification").register(meterRegistry);
+        this.cacheHitCounter = Counter.builder("jwt.claims.cache.hits").register(meterRegistry);
+    }
+
+    // 토큰 검증 후 이메일 반환 (유효하지 않으면 null)
+    public String verify(String token) {
+        VerifiedToken cached = cache.getIfPresent(token);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return cached.email;
+        }
+
+        TokenClaims claims = verificationTimer.record(() -> jwtTokenProvider.parseAndValidate(token));
+        if (claims == null || claims.getExpiresAt() == null) {
+            return null;
+        }
+
+        cache.put(token, new VerifiedToken(claims.getSubject(), claims.getExpiresAt().toEpochMilli()));
+        return claims.getSubject();
+    }
+
+    private record VerifiedToken(String email, long expiresAt) {
+    }
+}
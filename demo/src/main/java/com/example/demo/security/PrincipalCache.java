@@ -0,0 +1,48 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이메일 → 인증 주체(UserDetails) 캐시
+ * 요청마다 사용자 테이블을 조회하지 않도록 일정 시간 보관하고,
+ * 사용자 정보가 바뀌면 evict 로 제거한다.
+ * 만료와 최대 개수 초과는 Caffeine 이 항목 단위로 처리한다 (요청 스레드에서 전체를 훑는 정리 없음).
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final UserDetailsService userDetailsService;
+
+    private final Cache<String, UserDetails> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // 캐시에 없거나 만료되었으면 DB에서 다시 로드
+    public UserDetails get(String email) {
+        UserDetails cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        cache.put(email, userDetails);
+        return userDetails;
+    }
+
+    // 사용자 정보 변경(로그인, 로그아웃, 비밀번호 변경 등) 시 제거
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+}
@@ -1,28 +1,40 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CommentPageResponseDTO;
 import com.example.demo.dto.CommentRequestDTO;
 import com.example.demo.dto.CommentResponseDTO;
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.Study;
 import com.example.demo.entity.User;
 import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.CommentView;
+import com.example.demo.repository.ReplyCountView;
 import com.example.demo.repository.StudyRepository;
+import com.example.demo.repository.StudyStatsRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.CommentTreeBuilder;
+import com.example.demo.util.ProjectionMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final StudyRepository studyRepository;
+    private final StudyStatsRepository studyStatsRepository;
+    private final ContentVersionRegistry contentVersionRegistry;
 
     // 댓글 작성 (원댓글 또는 대댓글)
     @Transactional
@@ -49,6 +61,8 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        studyStatsRepository.addDeltas(studyId, 1, 0);
+        contentVersionRegistry.commentsChanged(studyId);
 
         return CommentResponseDTO.builder()
                 .id(savedComment.getId())
@@ -64,43 +78,41 @@ public class CommentService {
     // 특정 스터디의 댓글 목록 조회 (작성자 이름 포함, 계층 구조)
     @Transactional(readOnly = true)
     public List<CommentResponseDTO> getCommentsByStudyId(Long studyId) {
-        List<Object[]> results = commentRepository.findByStudyIdWithAuthor(studyId);
-        List<CommentResponseDTO> allComments = new ArrayList<>();
-        List<CommentResponseDTO> parentComments = new ArrayList<>();
+        List<CommentView> results = commentRepository.findByStudyIdWithAuthor(studyId);
+        List<CommentResponseDTO> allComments = new ArrayList<>(results.size());
 
         // 1단계: 모든 댓글을 DTO로 변환
-        for (Object[] row : results) {
-            Long parentId = row[3] != null ? ((Number) row[3]).longValue() : null;
-
-            CommentResponseDTO dto = CommentResponseDTO.builder()
-                    .id(((Number) row[0]).longValue())
-                    .studyId(((Number) row[1]).longValue())
-                    .parentId(parentId)
-                    .content((String) row[4])
-                    .author((String) row[7])
-                    .createdAt(((Timestamp) row[5]).toLocalDateTime())
-                    .updatedAt(((Timestamp) row[6]).toLocalDateTime())
-                    .build();
-            allComments.add(dto);
+        for (CommentView row : results) {
+            allComments.add(ProjectionMapper.toCommentResponse(row));
         }
 
-        // 2단계: 원댓글과 대댓글을 분리하고 계층 구조 생성
-        for (CommentResponseDTO comment : allComments) {
-            if (comment.getParentId() == null) {
-                // 원댓글
-                parentComments.add(comment);
-            } else {
-                // 대댓글: 부모 댓글 찾아서 replies에 추가
-                for (CommentResponseDTO parent : allComments) {
-                    if (parent.getId().equals(comment.getParentId())) {
-                        parent.getReplies().add(comment);
-                        break;
-                    }
-                }
-            }
+        // 2단계: id 인덱스로 계층 구조 생성 (O(n))
+        return CommentTreeBuilder.build(allComments);
+    }
+
+    // 원댓글 페이지 조회 (답글은 replyCount 만 포함, 내용은 getReplies 로 따로 조회)
+    @Transactional(readOnly = true)
+    public CommentPageResponseDTO getCommentPage(Long studyId, Long cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<CommentView> results = commentRepository.findRootPageWithAuthor(
+                studyId, cursor != null ? cursor : 0L, pageSize + 1);
+        return toPage(results, pageSize);
+    }
+
+    // 특정 댓글의 답글 페이지 조회
+    @Transactional(readOnly = true)
+    public CommentPageResponseDTO getReplies(Long studyId, Long commentId, Long cursor, Integer size) {
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+
+        if (!parent.getStudyId().equals(studyId)) {
+            throw new RuntimeException("댓글이 해당 스터디에 속하지 않습니다.");
         }
 
-        return parentComments;
+        int pageSize = pageSize(size);
+        List<CommentView> results = commentRepository.findReplyPageWithAuthor(
+                commentId, cursor != null ? cursor : 0L, pageSize + 1);
+        return toPage(results, pageSize);
     }
 
     // 댓글 수정
@@ -119,6 +131,7 @@ public class CommentService {
 
         comment.setContent(dto.getContent());
         Comment updatedComment = commentRepository.save(comment);
+        contentVersionRegistry.commentsChanged(updatedComment.getStudyId());
 
         return CommentResponseDTO.builder()
                 .id(updatedComment.getId())
@@ -153,5 +166,51 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        studyStatsRepository.addDeltas(comment.getStudyId(), -1, 0);
+        contentVersionRegistry.commentsChanged(comment.getStudyId());
+    }
+
+    // 페이지 크기 (기본 20, 최대 100)
+    private int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // 조회 결과(pageSize + 1개) → 페이지 응답 (각 댓글의 답글 수 포함)
+    private CommentPageResponseDTO toPage(List<CommentView> results, int pageSize) {
+        boolean hasNext = results.size() > pageSize;
+        if (hasNext) {
+            results = results.subList(0, pageSize);
+        }
+
+        List<CommentResponseDTO> items = new ArrayList<>(results.size());
+        List<Long> ids = new ArrayList<>(results.size());
+        for (CommentView row : results) {
+            CommentResponseDTO dto = ProjectionMapper.toCommentResponse(row);
+            dto.setReplyCount(0);
+            items.add(dto);
+            ids.add(dto.getId());
+        }
+
+        // 답글 수는 한 번의 GROUP BY 로 조회
+        if (!ids.isEmpty()) {
+            Map<Long, Integer> replyCounts = new HashMap<>();
+            for (ReplyCountView row : commentRepository.countRepliesByParentIds(ids)) {
+                replyCounts.put(row.getParentId(), row.getReplyCount());
+            }
+            for (CommentResponseDTO dto : items) {
+                dto.setReplyCount(replyCounts.getOrDefault(dto.getId(), 0));
+            }
+        }
+
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+
+        return CommentPageResponseDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 }
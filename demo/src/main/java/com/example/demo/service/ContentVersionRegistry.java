@@ -0,0 +1,111 @@
+package com.example.demo.service;
+
+import com.example.demo.util.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 콘텐츠 버전 관리 (서버 메모리)
+ * 스터디/댓글/참여 신청이 바뀔 때마다 버전을 올리고,
+ * 컨트롤러는 DB 조회 없이 버전만 비교해 304 를 응답한다.
+ * 서버 재시작 시 ETag 가 모두 바뀌도록 부팅 시각을 포함한다.
+ * 버전 번호는 전체에서 하나씩 증가하는 순번이다 (같은 번호가 두 번 나오지 않음).
+ * 삭제된 스터디는 항목을 지우고, 항목이 없는 스터디의 버전을 새 순번으로 올려
+ * 지워진 스터디의 예전 ETag 가 다시 맞는 일이 없게 한다.
+ */
+@Component
+public class ContentVersionRegistry {
+
+    private final long bootTime = System.currentTimeMillis();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** 항목이 없는 스터디 (한 번도 바뀌지 않았거나 삭제된 스터디)의 버전 */
+    private volatile Version absent = new Version(0, bootTime);
+
+    /** 스터디 목록 / 피드 */
+    private final AtomicReference<Version> studyList = new AtomicReference<>(absent);
+
+    /** 스터디 상세 (스터디 id별) */
+    private final Map<Long, Version> studies = new ConcurrentHashMap<>();
+
+    /** 스터디별 댓글 */
+    private final Map<Long, Version> comments = new ConcurrentHashMap<>();
+
+    public ContentVersion studyList() {
+        return toContentVersion("list", 0L, studyList.get());
+    }
+
+    public ContentVersion study(Long studyId) {
+        return toContentVersion("study", studyId, studies.getOrDefault(studyId, absent));
+    }
+
+    public ContentVersion comments(Long studyId) {
+        return toContentVersion("comments", studyId, comments.getOrDefault(studyId, absent));
+    }
+
+    // 커밋 전에 버전을 올리면 이전 데이터가 새 ETag 로 캐시될 수 있으므로 모두 커밋 후 반영
+    // 스터디 생성/수정 시: 목록 + 상세 무효화
+    public void studyChanged(Long studyId) {
+        AfterCommit.run(() -> {
+            studyList.set(next());
+            studies.put(studyId, next());
+        });
+    }
+
+    // 스터디 삭제 시: 목록 무효화, 상세/댓글 항목 제거 (삭제된 id 가 계속 쌓이지 않도록)
+    public void studyDeleted(Long studyId) {
+        AfterCommit.run(() -> {
+            studyList.set(next());
+            studies.remove(studyId);
+            comments.remove(studyId);
+            absent = next();
+        });
+    }
+
+    // 댓글 생성/수정/삭제 시 (피드의 댓글 수도 바뀌므로 목록 포함)
+    public void commentsChanged(Long studyId) {
+        AfterCommit.run(() -> {
+            studyList.set(next());
+            comments.put(studyId, next());
+        });
+    }
+
+    // 참여 신청 생성/변경/취소 시 (스터디 상세, 피드의 신청자/승인 수가 바뀜)
+    public void participationsChanged(Long studyId) {
+        AfterCommit.run(() -> {
+            studyList.set(next());
+            studies.put(studyId, next());
+        });
+    }
+
+    // 버전을 기록 중인 스터디 수 (상세 + 댓글)
+    public int trackedCount() {
+        return studies.size() + comments.size();
+    }
+
+    private Version next() {
+        return new Version(sequence.incrementAndGet(), System.currentTimeMillis());
+    }
+
+    private ContentVersion toContentVersion(String type, Long id, Version v) {
+        String etag = "\"" + type + "-" + id + "-" + Long.toHexString(bootTime) + "-" + v.version + "\"";
+        return new ContentVersion(etag, v.lastModified);
+    }
+
+    private record Version(long version, long lastModified) {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ContentVersion {
+        private final String etag;
+        private final long lastModified;
+    }
+}
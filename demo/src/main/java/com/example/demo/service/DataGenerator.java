@@ -0,0 +1,335 @@
+package com.example.demo.service;
+
+import com.example.demo.util.ZipfSampler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하 테스트용 대량 데이터 생성 (datagen 프로필)
+ * ./gradlew bootRun --args='--spring.profiles.active=datagen --datagen.users=1000000 --datagen.studies=200000'
+ *
+ * - 스터디/댓글 작성자는 Zipf 분포 (소수의 사용자가 대부분의 글을 씀)
+ * - 스터디 인기도는 Pareto 분포, 인기도에 비례해 댓글 수 / 신청자 수가 늘어남
+ * - 댓글의 절반 정도는 같은 스터디의 이전 댓글(답글 포함)에 다는 답글 → 중첩 스레드
+ * - 신청자 중 일부 승인(정원까지) / 거절, approved_count 와 study_stats 도 함께 채움
+ *
+ * 모든 행은 JDBC batch INSERT (MySQL 은 rewriteBatchedStatements 로 multi-row INSERT).
+ * 빈 DB 에서 같은 seed 로 실행하면 항상 같은 데이터가 만들어진다.
+ * 테이블마다 seed 에서 파생한 별도 Random 을 쓰므로, 한 테이블의 설정을 바꿔도 다른 테이블은 그대로.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DataGenerator implements ApplicationRunner {
+
+    public static final String PASSWORD = "password1234";
+
+    private static final String[] CATEGORIES = {"프로그래밍", "어학", "자격증", "취업", "독서"};
+    private static final String[] LOCATIONS = {"서울", "부산", "대구", "인천", "광주", "대전", "온라인"};
+    // 앞쪽일수록 자주 쓰임 (Zipf 순위)
+    private static final String[] TECHS = {"Java", "Spring", "자바", "Python", "JavaScript", "React", "MySQL",
+            "Docker", "Kotlin", "TypeScript", "AWS", "Node.js", "Vue", "Go", "Kubernetes", "Redis", "C++",
+            "파이썬", "리액트", "Django", "Flutter", "Swift", "Rust", "Kafka", "Elasticsearch"};
+
+    // 기준 시각 (실행 시각과 무관하게 같은 데이터가 나오도록 고정)
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long SPAN_MINUTES = 365L * 24 * 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.users:100000}")
+    private int users;
+
+    @Value("${datagen.studies:20000}")
+    private int studies;
+
+    // 프로필을 가진 사용자 비율
+    @Value("${datagen.profile-ratio:0.7}")
+    private double profileRatio;
+
+    // 인기도 1 기준 스터디당 평균 댓글 수 / 신청자 수
+    @Value("${datagen.comments-per-study:8}")
+    private double commentsPerStudy;
+
+    @Value("${datagen.applicants-per-study:6}")
+    private double applicantsPerStudy;
+
+    // 댓글 중 답글 비율
+    @Value("${datagen.reply-ratio:0.5}")
+    private double replyRatio;
+
+    @Value("${datagen.zipf-exponent:1.1}")
+    private double zipfExponent;
+
+    @Value("${datagen.batch-size:5000}")
+    private int batchSize;
+
+    // 생성 후 종료 (false 면 서버로 계속 실행)
+    @Value("${datagen.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        log.info("데이터 생성 시작 (seed={}, users={}, studies={})", seed, users, studies);
+
+        long userBase = maxId("user");
+        generateUsers(userBase);
+        generateProfiles(userBase);
+        generateStudies(userBase);
+
+        log.info("데이터 생성 완료 ({}ms)", System.currentTimeMillis() - startedAt);
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    // ========= 사용자 =========
+
+    private void generateUsers(long userBase) {
+        // BCrypt 는 느리므로 한 번만 인코딩해 모든 사용자가 같은 비밀번호를 씀
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        BatchWriter writer = new BatchWriter(
+                "INSERT INTO user (id, email, password, role, name) VALUES (?, ?, ?, ?, ?)", null);
+        for (int i = 1; i <= users; i++) {
+            long id = userBase + i;
+            writer.add(id, "user" + id + "@example.com", encoded, "ROLE_USER", "사용자" + id);
+        }
+        writer.flush();
+        restartIdentity("user", userBase + users + 1);
+        log.info("user {}건", writer.total);
+    }
+
+    // ========= 프로필 / 기술 스택 =========
+
+    private void generateProfiles(long userBase) {
+        Random random = new Random(seed * 31 + 1);
+        ZipfSampler techRank = new ZipfSampler(TECHS.length, zipfExponent);
+
+        long profileBase = maxId("profile");
+        long profileId = profileBase;
+
+        BatchWriter profiles = new BatchWriter("INSERT INTO profile (id, user_id, address, age, bio, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", null);
+        BatchWriter techs = new BatchWriter(
+                "INSERT INTO profile_tech_stack (profile_id, tech, created_at) VALUES (?, ?, ?)", profiles);
+
+        for (int i = 1; i <= users; i++) {
+            if (random.nextDouble() >= profileRatio) {
+                continue;
+            }
+            profileId++;
+            Timestamp createdAt = timestamp(random);
+            profiles.add(profileId, userBase + i, LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    20 + random.nextInt(26), "안녕하세요, 사용자" + (userBase + i) + "입니다.", createdAt, createdAt);
+
+            // 기술 1 ~ 5개 (중복 없이)
+            int count = 1 + random.nextInt(5);
+            Set<String> chosen = new LinkedHashSet<>();
+            for (int attempt = 0; chosen.size() < count && attempt < count * 4; attempt++) {
+                chosen.add(TECHS[techRank.sample(random) - 1]);
+            }
+            for (String tech : chosen) {
+                techs.add(profileId, tech, createdAt);
+            }
+        }
+        techs.flush();
+        restartIdentity("profile", profileId + 1);
+        log.info("profile {}건, profile_tech_stack {}건", profiles.total, techs.total);
+    }
+
+    // ========= 스터디 / 댓글 / 참여 신청 / 집계 =========
+
+    private void generateStudies(long userBase) {
+        Random random = new Random(seed * 31 + 2);
+        ZipfSampler authorRank = new ZipfSampler(users, zipfExponent);
+        ZipfSampler techRank = new ZipfSampler(TECHS.length, zipfExponent);
+
+        long studyId = maxId("study");
+        long commentId = maxId("comment");
+        long participationId = maxId("participation");
+
+        BatchWriter studyWriter = new BatchWriter("INSERT INTO study (id, author_id, title, description, status, "
+                + "category, schedule, location, recruit_count, approved_count, curriculum, views, is_temp, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", null);
+        BatchWriter commentWriter = new BatchWriter("INSERT INTO comment (id, study_id, author_id, parent_id, "
+                + "content, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", studyWriter);
+        BatchWriter participationWriter = new BatchWriter("INSERT INTO participation (id, study_id, user_id, "
+                + "status, message, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", studyWriter);
+        BatchWriter statsWriter = new BatchWriter("INSERT INTO study_stats (study_id, comment_count, "
+                + "applicant_count, updated_at) VALUES (?, ?, ?, ?)", studyWriter);
+
+        // 한 스터디 안의 댓글 id (답글 부모 선택용), 재사용
+        long[] threadIds = new long[64];
+
+        for (int i = 1; i <= studies; i++) {
+            studyId++;
+            long authorId = userBase + authorRank.sample(random);
+            Timestamp createdAt = timestamp(random);
+            boolean temp = random.nextDouble() < 0.03;
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String tech = TECHS[techRank.sample(random) - 1];
+            int recruitCount = 2 + random.nextInt(9);
+
+            // 인기도 (Pareto, alpha = 1.5, 최소 1)
+            double popularity = Math.min(Math.pow(1 - random.nextDouble(), -1 / 1.5), 100);
+            int views = (int) (popularity * (20 + random.nextInt(80)));
+
+            // 참여 신청 (작성자 제외, 사용자 중복 없음)
+            // 승인 인원으로 스터디 상태가 정해지므로 먼저 뽑아 두고, 스터디 행 다음에 넣음
+            int applicants = temp ? 0 : Math.min(geometric(random, applicantsPerStudy * popularity, 500), users - 1);
+            Set<Long> applied = new LinkedHashSet<>();
+            List<String> statuses = new ArrayList<>(applicants);
+            int approved = 0;
+            while (applied.size() < applicants) {
+                long userId = userBase + 1 + random.nextInt(users);
+                if (userId == authorId || !applied.add(userId)) {
+                    continue;
+                }
+                double r = random.nextDouble();
+                if (approved < recruitCount && r < 0.4) {
+                    statuses.add("APPROVED");
+                    approved++;
+                } else if (r < 0.55) {
+                    statuses.add("REJECTED");
+                } else {
+                    statuses.add("PENDING");
+                }
+            }
+
+            String status = approved >= recruitCount ? "모집완료" : "모집중";
+            studyWriter.add(studyId, authorId, tech + " " + category + " 스터디 " + i,
+                    tech + " 을(를) 함께 공부할 분을 모집합니다. " + category + " 관련 스터디입니다.",
+                    status, category, "매주 " + (random.nextBoolean() ? "토요일" : "수요일"),
+                    LOCATIONS[random.nextInt(LOCATIONS.length)], recruitCount, approved,
+                    "1주차 ~ 8주차 " + tech + " 커리큘럼", views, temp, createdAt, createdAt);
+
+            int n = 0;
+            for (Long userId : applied) {
+                participationId++;
+                Timestamp at = new Timestamp(createdAt.getTime() + (n + 1) * 120_000L);
+                participationWriter.add(participationId, studyId, userId, statuses.get(n), "참여하고 싶습니다", at, at);
+                n++;
+            }
+
+            // 댓글 (임시저장 글은 없음)
+            int comments = temp ? 0 : geometric(random, commentsPerStudy * popularity, 2000);
+            if (threadIds.length < comments) {
+                threadIds = new long[comments];
+            }
+            for (int c = 0; c < comments; c++) {
+                commentId++;
+                Long parentId = (c > 0 && random.nextDouble() < replyRatio) ? threadIds[random.nextInt(c)] : null;
+                Timestamp at = new Timestamp(createdAt.getTime() + (c + 1) * 60_000L);
+                commentWriter.add(commentId, studyId, userBase + authorRank.sample(random), parentId,
+                        parentId == null ? "질문 있습니다 " + commentId : "답글입니다 " + commentId, at, at);
+                threadIds[c] = commentId;
+            }
+
+            if (!temp) {
+                statsWriter.add(studyId, comments, applicants, createdAt);
+            }
+
+            if (i % 100_000 == 0) {
+                log.info("study {} / {}", i, studies);
+            }
+        }
+        commentWriter.flush();
+        participationWriter.flush();
+        statsWriter.flush();
+
+        restartIdentity("study", studyId + 1);
+        restartIdentity("comment", commentId + 1);
+        restartIdentity("participation", participationId + 1);
+        log.info("study {}건, comment {}건, participation {}건",
+                studyWriter.total, commentWriter.total, participationWriter.total);
+    }
+
+    // ========= 내부 =========
+
+    // 평균 mean 의 기하 분포 (최대 max)
+    private int geometric(Random random, double mean, int max) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1 / (mean + 1);
+        int k = (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+        return Math.min(k, max);
+    }
+
+    private Timestamp timestamp(Random random) {
+        return Timestamp.valueOf(BASE_TIME.plusMinutes((long) (random.nextDouble() * SPAN_MINUTES)));
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    // id 를 직접 넣었으므로 다음 자동 증가 값을 맞춤 (MySQL 은 AUTO_INCREMENT 가 알아서 올라감)
+    private void restartIdentity(String table, long next) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con ->
+                con.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    // batchSize 마다 전송, 부모 테이블(parent)의 대기 행을 먼저 전송해 FK 순서를 지킴
+    private final class BatchWriter {
+
+        private final String sql;
+        private final BatchWriter parent;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long total;
+
+        private BatchWriter(String sql, BatchWriter parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            total += rows.size();
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CacheStatsResponseDTO;
+import com.example.demo.entity.Profile;
+import com.example.demo.entity.Study;
+import com.example.demo.entity.User;
+import com.example.demo.util.AfterCommit;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 명시적 무효화 + 적중률 통계
+ * READ_WRITE 엔티티는 JPA 로 수정하면 자동 갱신되지만,
+ * JdbcTemplate 처럼 Hibernate 를 거치지 않는 쓰기 이후에는 직접 비워야 한다.
+ */
+@Service
+public class EntityCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    // 사용자 정보 변경 (커밋 후 무효화, email 은 natural-id 라 바뀌지 않음)
+    public void evictUser(Long userId) {
+        AfterCommit.run(() -> sessionFactory.getCache().evictEntityData(User.class, userId));
+    }
+
+    // 프로필 변경 (기술 스택 쿼리 캐시는 테이블 변경 시 자동 무효화)
+    public void evictProfile(Long profileId) {
+        AfterCommit.run(() -> sessionFactory.getCache().evictEntityData(Profile.class, profileId));
+    }
+
+    // JdbcTemplate 으로 직접 수정한 스터디
+    public void evictStudies(Collection<Long> studyIds) {
+        AfterCommit.run(() -> studyIds.forEach(id -> sessionFactory.getCache().evictEntityData(Study.class, id)));
+    }
+
+    // 영역별 적중/미스 통계
+    public CacheStatsResponseDTO getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+
+        List<CacheStatsResponseDTO.Region> regions = new ArrayList<>();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            regions.add(CacheStatsResponseDTO.Region.builder()
+                    .name(regionName)
+                    .hitCount(region.getHitCount())
+                    .missCount(region.getMissCount())
+                    .putCount(region.getPutCount())
+                    .hitRatio(ratio(region.getHitCount(), region.getMissCount()))
+                    .elementCountInMemory(region.getElementCountInMemory())
+                    .build());
+        }
+
+        return CacheStatsResponseDTO.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .secondLevelHitCount(statistics.getSecondLevelCacheHitCount())
+                .secondLevelMissCount(statistics.getSecondLevelCacheMissCount())
+                .secondLevelHitRatio(ratio(statistics.getSecondLevelCacheHitCount(),
+                        statistics.getSecondLevelCacheMissCount()))
+                .naturalIdHitCount(statistics.getNaturalIdCacheHitCount())
+                .naturalIdMissCount(statistics.getNaturalIdCacheMissCount())
+                .queryHitCount(statistics.getQueryCacheHitCount())
+                .queryMissCount(statistics.getQueryCacheMissCount())
+                .regions(regions)
+                .build();
+    }
+
+    private static double ratio(long hit, long miss) {
+        long total = hit + miss;
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+}
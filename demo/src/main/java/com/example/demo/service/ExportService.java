@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.ParticipationRepository;
+import com.example.demo.repository.StudyRepository;
+import com.example.demo.util.ExportWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 관리자/분석용 전체 덤프 (스터디, 참여 신청, 댓글)
+ * DB 커서를 id 순으로 읽으면서 바로 출력하므로 결과 전체를 메모리에 올리지 않는다.
+ * 행마다 id 가 들어 있으므로 중단되면 마지막 id 를 afterId 로 넘겨 이어받을 수 있다.
+ *
+ * fetch size 는 내보내기 쿼리에만 적용한다 (export.fetch-size).
+ * MySQL 은 Integer.MIN_VALUE 일 때 한 행씩 스트리밍하므로 JDBC URL 에 useCursorFetch 를 켜지 않는다.
+ */
+@Service
+public class ExportService {
+
+    // 이 행 수마다 클라이언트로 flush
+    private static final int FLUSH_ROWS = 1000;
+
+    private static final String STUDY_SQL = "SELECT " + StudyRepository.STUDY_COLUMNS + " FROM study s " +
+            "LEFT JOIN user u ON s.author_id = u.id " +
+            "WHERE s.is_temp = false AND s.id > ? " +
+            "ORDER BY s.id ASC LIMIT ?";
+
+    private static final String PARTICIPATION_SQL = "SELECT " + ParticipationRepository.PARTICIPATION_COLUMNS +
+            ", u.name AS userName, s.title AS studyTitle " +
+            "FROM participation p " +
+            "LEFT JOIN user u ON p.user_id = u.id " +
+            "LEFT JOIN study s ON p.study_id = s.id " +
+            "WHERE p.id > ? " +
+            "ORDER BY p.id ASC LIMIT ?";
+
+    private static final String COMMENT_SQL = "SELECT " + CommentRepository.COMMENT_COLUMNS + " FROM comment c " +
+            "LEFT JOIN user u ON c.author_id = u.id " +
+            "WHERE c.id > ? " +
+            "ORDER BY c.id ASC LIMIT ?";
+
+    private static final String[] STUDY_COLUMNS = {"id", "title", "description", "status", "category",
+            "schedule", "location", "recruitCount", "curriculum", "views", "author", "createdAt", "updatedAt"};
+
+    private static final String[] PARTICIPATION_COLUMNS = {"id", "studyId", "studyTitle", "userId", "userName",
+            "status", "message", "createdAt", "updatedAt"};
+
+    private static final String[] COMMENT_COLUMNS = {"id", "studyId", "parentId", "content", "author",
+            "createdAt", "updatedAt"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportService(DataSource dataSource, @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // 스터디 내보내기 (임시저장 제외), 출력한 행 수 반환
+    @Transactional(readOnly = true)
+    public long exportStudies(String format, Long afterId, Long limit, OutputStream out) {
+        return export(STUDY_SQL, afterId, limit, format, out, STUDY_COLUMNS, (rs, i) -> new Object[]{
+                rs.getLong("id"), rs.getString("title"), rs.getString("description"), rs.getString("status"),
+                rs.getString("category"), rs.getString("schedule"), rs.getString("location"),
+                rs.getObject("recruitCount", Integer.class), rs.getString("curriculum"),
+                rs.getObject("views", Integer.class), rs.getString("author"),
+                rs.getObject("createdAt", LocalDateTime.class), rs.getObject("updatedAt", LocalDateTime.class)});
+    }
+
+    // 참여 신청 내보내기, 출력한 행 수 반환
+    @Transactional(readOnly = true)
+    public long exportParticipations(String format, Long afterId, Long limit, OutputStream out) {
+        return export(PARTICIPATION_SQL, afterId, limit, format, out, PARTICIPATION_COLUMNS, (rs, i) -> new Object[]{
+                rs.getObject("id", Integer.class), rs.getObject("studyId", Integer.class), rs.getString("studyTitle"),
+                rs.getObject("userId", Integer.class), rs.getString("userName"), rs.getString("status"),
+                rs.getString("message"),
+                rs.getObject("createdAt", LocalDateTime.class), rs.getObject("updatedAt", LocalDateTime.class)});
+    }
+
+    // 댓글 내보내기, 출력한 행 수 반환
+    @Transactional(readOnly = true)
+    public long exportComments(String format, Long afterId, Long limit, OutputStream out) {
+        return export(COMMENT_SQL, afterId, limit, format, out, COMMENT_COLUMNS, (rs, i) -> new Object[]{
+                rs.getLong("id"), rs.getObject("studyId", Long.class), rs.getObject("parentId", Long.class),
+                rs.getString("content"), rs.getString("author"),
+                rs.getObject("createdAt", LocalDateTime.class), rs.getObject("updatedAt", LocalDateTime.class)});
+    }
+
+    // limit 은 SQL 에 넣음 (MySQL 스트리밍 결과는 닫을 때 남은 행을 모두 읽어야 하므로 중간에 멈추지 않음)
+    private long export(String sql, Long afterId, Long limit, String format, OutputStream out, String[] columns,
+                        RowMapper<Object[]> toValues) {
+        long max = (limit == null || limit <= 0) ? Long.MAX_VALUE : limit;
+        long count = 0;
+        try (Stream<Object[]> rows = jdbcTemplate.queryForStream(sql, toValues, afterId(afterId), max)) {
+            ExportWriter writer = ExportWriter.of(format, out, columns);
+            Iterator<Object[]> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.row(it.next());
+                if (++count % FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long afterId(Long afterId) {
+        return afterId == null ? 0L : afterId;
+    }
+}
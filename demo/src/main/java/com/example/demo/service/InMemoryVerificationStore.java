@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메모리 기반 VerificationStore
+ * - 조회 시 만료 확인 (lazy expiry) + 주기적 정리
+ * - 최대 항목 수(hard cap)를 넘으면 가장 먼저 저장된 항목을 내보냄 (저장은 거부하지 않음)
+ *   모든 항목의 TTL 이 같으므로(CODE_TTL) 가장 오래된 항목 = 가장 먼저 만료될 항목
+ * 저장 순서를 유지하는 LinkedHashMap 이라 내보낼 항목을 O(1) 로 찾는다 (전체 탐색 없음).
+ */
+@Component
+@ConditionalOnProperty(name = "password-reset.store-type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationStore implements VerificationStore {
+
+    private final int maxEntries;
+
+    // 저장 순서 (새로 저장한 키는 맨 뒤) - 모든 접근은 this 로 동기화
+    private final LinkedHashMap<String, Entry> entries;
+
+    public InMemoryVerificationStore(@Value("${password-reset.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > InMemoryVerificationStore.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized boolean put(String key, String value, Duration ttl) {
+        // 새 만료 시각에 맞게 맨 뒤로 옮김
+        entries.remove(key);
+        entries.put(key, new Entry(value, 0, expiry(ttl)));
+        return true;
+    }
+
+    @Override
+    public synchronized String get(String key) {
+        Entry entry = live(key);
+        return entry != null ? entry.value : null;
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized int increment(String key, Duration ttl) {
+        Entry entry = live(key);
+        if (entry == null) {
+            entries.put(key, new Entry(null, 1, expiry(ttl)));
+            return 1;
+        }
+        // 기존 키는 만료 시각이 그대로이므로 순서도 그대로
+        Entry updated = new Entry(entry.value, entry.counter + 1, entry.expiresAt);
+        entries.put(key, updated);
+        return updated.counter;
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 60_000)
+    public synchronized void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> e.expiresAt <= now);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Entry live(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private long expiry(Duration ttl) {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private record Entry(String value, int counter, long expiresAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * DB 기반 VerificationStore (여러 서버 인스턴스가 상태를 공유)
+ * 테이블: resources/db/migration/V4__verification_store.sql
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "password-reset.store-type", havingValue = "jdbc")
+public class JdbcVerificationStore implements VerificationStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean put(String key, String value, Duration ttl) {
+        jdbcTemplate.update(
+                "INSERT INTO verification_store (store_key, store_value, counter, expires_at) VALUES (?, ?, 0, ?) " +
+                "ON DUPLICATE KEY UPDATE store_value = VALUES(store_value), counter = 0, expires_at = VALUES(expires_at)",
+                key, value, System.currentTimeMillis() + ttl.toMillis());
+        return true;
+    }
+
+    @Override
+    public String get(String key) {
+        List<String> values = jdbcTemplate.queryForList(
+                "SELECT store_value FROM verification_store WHERE store_key = ? AND expires_at > ?",
+                String.class, key, System.currentTimeMillis());
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public void remove(String key) {
+        jdbcTemplate.update("DELETE FROM verification_store WHERE store_key = ?", key);
+    }
+
+    @Override
+    public int increment(String key, Duration ttl) {
+        long now = System.currentTimeMillis();
+        // 만료된 카운터는 1부터 다시 시작 (counter 를 먼저 계산해야 이전 expires_at 기준으로 판단됨)
+        jdbcTemplate.update(
+                "INSERT INTO verification_store (store_key, store_value, counter, expires_at) VALUES (?, NULL, 1, ?) " +
+                "ON DUPLICATE KEY UPDATE " +
+                "counter = IF(expires_at <= ?, 1, counter + 1), " +
+                "expires_at = IF(expires_at <= ?, VALUES(expires_at), expires_at)",
+                key, now + ttl.toMillis(), now, now);
+        Integer counter = jdbcTemplate.queryForObject(
+                "SELECT counter FROM verification_store WHERE store_key = ?", Integer.class, key);
+        return counter != null ? counter : 0;
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        jdbcTemplate.update("DELETE FROM verification_store WHERE expires_at <= ?", System.currentTimeMillis());
+    }
+}
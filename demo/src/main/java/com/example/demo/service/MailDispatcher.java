@@ -0,0 +1,221 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 메일 발송 파이프라인
+ * 요청 스레드는 큐에 넣기만 하고, 워커가 모아서(batch) 하나의 SMTP 세션으로 전송한다.
+ * 일부만 실패하면 실패한 메일만 지수 백오프 후 다시 큐에 넣는다 (워커는 대기하지 않음).
+ * 지표: mail.dispatch.queue(대기 건수), mail.dispatch.send(batch 전송 시간),
+ *       mail.dispatch.sent / failed / retries
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mail.dispatch.workers:2}")
+    private int workerCount;
+
+    @Value("${mail.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${mail.dispatch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.dispatch.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${mail.dispatch.backoff-ms:1000}")
+    private long backoffMillis;
+
+    // 발송 시각(notBefore)이 된 메일만 꺼낼 수 있는 큐 (재시도는 지연을 두고 다시 넣음)
+    private final DelayQueue<PendingMail> queue = new DelayQueue<>();
+    // 받은 뒤 아직 끝나지 않은 메일 수 (대기 + 전송 중 + 재시도 대기) - queueCapacity 로 제한
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    private Timer sendTimer;
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Counter retryCounter;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("mail.dispatch.queue", queue, DelayQueue::size).register(meterRegistry);
+        sendTimer = Timer.builder("mail.dispatch.send").register(meterRegistry);
+        sentCounter = Counter.builder("mail.dispatch.sent").register(meterRegistry);
+        failedCounter = Counter.builder("mail.dispatch.failed").register(meterRegistry);
+        retryCounter = Counter.builder("mail.dispatch.retries").register(meterRegistry);
+
+        AtomicInteger seq = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "mail-dispatch-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::workerLoop);
+        }
+    }
+
+    // 서버 종료 시 큐에 남은 메일까지 발송 후 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("메일 발송 워커 종료 대기 시간 초과 (미발송 {}건)", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    // 메일 발송 요청 (처리 중인 메일이 가득 차면 예외)
+    public void enqueue(SimpleMailMessage message) {
+        if (inFlight.incrementAndGet() > queueCapacity) {
+            inFlight.decrementAndGet();
+            throw new RuntimeException("메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        queue.add(new PendingMail(message, 1, System.nanoTime()));
+    }
+
+    private void workerLoop() {
+        List<PendingMail> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMail first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 한 번의 send 호출 = 하나의 SMTP 연결로 batch 전체 전송
+    // JavaMailSenderImpl 은 성공한 메일을 이미 보낸 뒤 MailSendException 을 던지므로 실패 목록만 재시도
+    private void send(List<PendingMail> batch) {
+        Map<SimpleMailMessage, PendingMail> byMessage = new IdentityHashMap<>();
+        for (PendingMail pending : batch) {
+            byMessage.put(pending.message(), pending);
+        }
+        SimpleMailMessage[] messages = batch.stream().map(PendingMail::message).toArray(SimpleMailMessage[]::new);
+
+        List<PendingMail> failed = new ArrayList<>();
+        MailException error = null;
+        long start = System.nanoTime();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            error = e;
+            for (Object message : e.getFailedMessages().keySet()) {
+                PendingMail pending = byMessage.get(message);
+                if (pending != null) {
+                    failed.add(pending);
+                }
+            }
+            // 실패 목록을 알 수 없으면 전체 실패로 처리
+            if (failed.isEmpty()) {
+                failed.addAll(batch);
+            }
+        } catch (MailException e) {
+            // 인증 실패, 메시지 변환 실패 등: 한 통도 보내지 못함
+            error = e;
+            failed.addAll(batch);
+        }
+        sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        int delivered = batch.size() - failed.size();
+        sentCounter.increment(delivered);
+        inFlight.addAndGet(-delivered);
+
+        for (PendingMail pending : failed) {
+            retryOrGiveUp(pending, error);
+        }
+    }
+
+    private void retryOrGiveUp(PendingMail pending, MailException error) {
+        if (pending.attempt() >= maxAttempts) {
+            failedCounter.increment();
+            inFlight.decrementAndGet();
+            log.error("메일 발송 실패 (수신자 {}, {}회 시도)",
+                    Arrays.toString(pending.message().getTo()), pending.attempt(), error);
+            return;
+        }
+        retryCounter.increment();
+        long delay = backoffMillis << (pending.attempt() - 1);
+        log.warn("메일 발송 실패, {}ms 후 재시도 ({}/{})", delay, pending.attempt(), maxAttempts);
+        queue.add(new PendingMail(pending.message(), pending.attempt() + 1,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay)));
+    }
+
+    // ========= 통계 (지표와 같은 값) =========
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getSentCount() {
+        return (long) sentCounter.count();
+    }
+
+    public long getFailedCount() {
+        return (long) failedCounter.count();
+    }
+
+    public long getRetryCount() {
+        return (long) retryCounter.count();
+    }
+
+    // attempt: 이번이 몇 번째 시도인지, notBefore: 이 시각(nanoTime) 이후에 발송
+    private record PendingMail(SimpleMailMessage message, int attempt, long notBefore) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(notBefore - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(notBefore, ((PendingMail) other).notBefore);
+        }
+    }
+}
@@ -2,16 +2,15 @@ package com.example.demo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender mailSender;
+    private final MailDispatcher mailDispatcher;
 
-    // 비밀번호 재설정용 인증코드 메일 보내기
+    // 비밀번호 재설정용 인증코드 메일 보내기 (발송은 MailDispatcher 가 비동기로 처리)
     public void sendResetCode(String toEmail, String code) {
         SimpleMailMessage message = new SimpleMailMessage();
 
@@ -28,6 +27,6 @@ public class MailService {
                         "10분 안에 입력해주세요."
         );
 
-        mailSender.send(message);
+        mailDispatcher.enqueue(message);
     }
 }
\ No newline at end of file
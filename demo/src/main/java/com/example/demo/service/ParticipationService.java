@@ -1,5 +1,8 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.ParticipationBatchResultDTO;
+import com.example.demo.dto.ParticipationBatchResultDTO.Outcome;
+import com.example.demo.dto.ParticipationBatchUpdateDTO;
 import com.example.demo.dto.ParticipationRequestDTO;
 import com.example.demo.dto.ParticipationResponseDTO;
 import com.example.demo.dto.ParticipationUpdateDTO;
@@ -8,27 +11,52 @@ import com.example.demo.entity.Participation.ParticipationStatus;
 import com.example.demo.entity.Study;
 import com.example.demo.entity.User;
 import com.example.demo.repository.ParticipationRepository;
+import com.example.demo.repository.ParticipationStatusView;
+import com.example.demo.repository.ParticipationView;
 import com.example.demo.repository.StudyRepository;
+import com.example.demo.repository.StudyStatsRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.AfterCommit;
+import com.example.demo.util.ProjectionMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ParticipationService {
 
+    // 일괄 처리 최대 건수
+    private static final int MAX_BATCH_SIZE = 500;
+
+    // Idempotency-Key 최대 길이 (participation.idempotency_key 컬럼 길이)
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    // 정원이 차면 바뀌는 스터디 상태
+    private static final String STATUS_CLOSED = "모집완료";
+
     private final ParticipationRepository participationRepository;
     private final StudyRepository studyRepository;
+    private final StudyStatsRepository studyStatsRepository;
     private final UserRepository userRepository;
+    private final ContentVersionRegistry contentVersionRegistry;
+    private final TechMatchIndex techMatchIndex;
 
     // 참여 신청 생성
+    // 중복 확인 후 저장하던 것을 uk_participation_study_user 에 맡긴 INSERT IGNORE 한 번으로 처리
+    // (확인과 저장 사이에 들어온 동시 요청도 한 건만 저장됨)
+    // idempotencyKey 가 기존 신청의 키와 같으면 재전송으로 보고 기존 신청을 그대로 반환
     @Transactional
-    public ParticipationResponseDTO createParticipation(Integer studyId, ParticipationRequestDTO dto, String email) {
+    public ParticipationResponseDTO createParticipation(Integer studyId, ParticipationRequestDTO dto, String email,
+                                                        String idempotencyKey) {
+        String key = normalizeIdempotencyKey(idempotencyKey);
+
         // 스터디 존재 확인
         Study study = studyRepository.findById(studyId.longValue())
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
@@ -42,31 +70,38 @@ public class ParticipationService {
             throw new RuntimeException("자신의 스터디에는 참여 신청할 수 없습니다.");
         }
 
-        // 중복 신청 확인
-        if (participationRepository.existsByStudyIdAndUserId(studyId, user.getId().intValue())) {
-            throw new RuntimeException("이미 참여 신청한 스터디입니다.");
+        // 모집완료 스터디에는 신청 불가
+        if (STATUS_CLOSED.equals(study.getStatus())) {
+            throw new RuntimeException("모집이 완료된 스터디입니다.");
         }
 
-        // 참여 신청 생성
-        Participation participation = Participation.builder()
-                .studyId(studyId)
-                .userId(user.getId().intValue())
-                .status(ParticipationStatus.PENDING)
-                .message(dto.getMessage())
-                .build();
+        // 참여 신청 생성 (이미 있으면 0)
+        // INSERT IGNORE 는 중복 외의 오류도 삼키므로 스터디/사용자 존재와 키 길이는 위에서 먼저 확인해 둠
+        Integer userId = user.getId().intValue();
+        int inserted = participationRepository.insertIfAbsent(studyId, userId,
+                ParticipationStatus.PENDING.name(), dto.getMessage(), key);
+
+        Participation participation = participationRepository.findByStudyIdAndUserIdForShare(studyId, userId)
+                .orElseThrow(() -> new RuntimeException("참여 신청을 찾을 수 없습니다."));
 
-        Participation savedParticipation = participationRepository.save(participation);
+        if (inserted > 0) {
+            studyStatsRepository.addDeltas(studyId.longValue(), 0, 1);
+            contentVersionRegistry.participationsChanged(studyId.longValue());
+        } else if (key == null || !key.equals(participation.getIdempotencyKey())) {
+            // 중복 신청 (같은 키의 재전송이 아님)
+            throw new RuntimeException("이미 참여 신청한 스터디입니다.");
+        }
 
         return ParticipationResponseDTO.builder()
-                .id(savedParticipation.getId())
-                .studyId(savedParticipation.getStudyId())
-                .userId(savedParticipation.getUserId())
+                .id(participation.getId())
+                .studyId(participation.getStudyId())
+                .userId(participation.getUserId())
                 .userName(user.getName())
                 .studyTitle(study.getTitle())
-                .status(savedParticipation.getStatus())
-                .message(savedParticipation.getMessage())
-                .createdAt(savedParticipation.getCreatedAt())
-                .updatedAt(savedParticipation.getUpdatedAt())
+                .status(participation.getStatus())
+                .message(participation.getMessage())
+                .createdAt(participation.getCreatedAt())
+                .updatedAt(participation.getUpdatedAt())
                 .build();
     }
 
@@ -86,21 +121,12 @@ public class ParticipationService {
             throw new RuntimeException("조회 권한이 없습니다.");
         }
 
-        List<Object[]> results = participationRepository.findByStudyIdWithUser(studyId);
-        List<ParticipationResponseDTO> participations = new ArrayList<>();
-
-        for (Object[] row : results) {
-            ParticipationResponseDTO dto = ParticipationResponseDTO.builder()
-                    .id(((Number) row[0]).intValue())
-                    .studyId(((Number) row[1]).intValue())
-                    .userId(((Number) row[2]).intValue())
-                    .status(ParticipationStatus.valueOf((String) row[3]))
-                    .message((String) row[4])
-                    .createdAt(((Timestamp) row[5]).toLocalDateTime())
-                    .updatedAt(((Timestamp) row[6]).toLocalDateTime())
-                    .userName((String) row[7]) // user_name from join
-                    .studyTitle(study.getTitle())
-                    .build();
+        List<ParticipationView> results = participationRepository.findByStudyIdWithUser(studyId);
+        List<ParticipationResponseDTO> participations = new ArrayList<>(results.size());
+
+        for (ParticipationView row : results) {
+            ParticipationResponseDTO dto = ProjectionMapper.toParticipationResponse(row);
+            dto.setStudyTitle(study.getTitle());
             participations.add(dto);
         }
 
@@ -113,21 +139,12 @@ public class ParticipationService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        List<Object[]> results = participationRepository.findByUserIdWithStudy(user.getId().intValue());
-        List<ParticipationResponseDTO> participations = new ArrayList<>();
-
-        for (Object[] row : results) {
-            ParticipationResponseDTO dto = ParticipationResponseDTO.builder()
-                    .id(((Number) row[0]).intValue())
-                    .studyId(((Number) row[1]).intValue())
-                    .userId(((Number) row[2]).intValue())
-                    .status(ParticipationStatus.valueOf((String) row[3]))
-                    .message((String) row[4])
-                    .createdAt(((Timestamp) row[5]).toLocalDateTime())
-                    .updatedAt(((Timestamp) row[6]).toLocalDateTime())
-                    .studyTitle((String) row[7]) // study_title from join
-                    .userName(user.getName())
-                    .build();
+        List<ParticipationView> results = participationRepository.findByUserIdWithStudy(user.getId().intValue());
+        List<ParticipationResponseDTO> participations = new ArrayList<>(results.size());
+
+        for (ParticipationView row : results) {
+            ParticipationResponseDTO dto = ProjectionMapper.toParticipationResponse(row);
+            dto.setUserName(user.getName());
             participations.add(dto);
         }
 
@@ -160,9 +177,23 @@ public class ParticipationService {
             throw new RuntimeException("잘못된 요청입니다.");
         }
 
-        // 상태 업데이트
-        participation.setStatus(dto.getStatus());
-        Participation updatedParticipation = participationRepository.save(participation);
+        // 상태 업데이트 (현재 상태 조건부 UPDATE 후 모집 인원 반영)
+        ParticipationStatus previous = participation.getStatus();
+        ParticipationStatus next = dto.getStatus();
+        if (next == null) {
+            throw new RuntimeException("잘못된 요청입니다.");
+        }
+        if (previous != next) {
+            int changed = participationRepository.updateStatusIfCurrent(participationId, next.name(), previous.name());
+            if (changed == 0) {
+                throw new RuntimeException("다른 요청에 의해 이미 변경되었습니다. 다시 시도해주세요.");
+            }
+            applySeatChange(studyId, previous == ParticipationStatus.APPROVED ? 1 : 0,
+                    next == ParticipationStatus.APPROVED ? 1 : 0);
+            participation.setStatus(next);
+            contentVersionRegistry.participationsChanged(studyId.longValue());
+        }
+        Participation updatedParticipation = participation;
 
         // 신청자 정보 조회
         User applicant = userRepository.findById(participation.getUserId().longValue())
@@ -181,6 +212,91 @@ public class ParticipationService {
                 .build();
     }
 
+    // 참여 신청 일괄 승인/거절 (스터디 작성자만)
+    // 권한 확인 1회 + 대상 확인(잠금 읽기) 1회 + UPDATE 1회 (건수와 무관하게 쿼리 수 일정)
+    // 항목별 결과: UPDATED(변경) / UNCHANGED(이미 요청한 상태) / NOT_FOUND(다른 스터디 또는 없는 신청)
+    @Transactional
+    public ParticipationBatchResultDTO updateParticipationStatuses(Integer studyId, ParticipationBatchUpdateDTO dto,
+                                                                   String email) {
+        if (dto.getStatus() == null || dto.getParticipationIds() == null || dto.getParticipationIds().isEmpty()) {
+            throw new RuntimeException("잘못된 요청입니다.");
+        }
+
+        // 중복 제거 (요청 순서 유지)
+        List<Integer> requestedIds = new ArrayList<>(new LinkedHashSet<>(dto.getParticipationIds()));
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 처리할 수 있습니다.");
+        }
+
+        // 스터디 확인
+        Study study = studyRepository.findById(studyId.longValue())
+                .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
+
+        // 사용자 확인
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        // 스터디 작성자 확인
+        if (!study.getAuthorId().equals(user.getId())) {
+            throw new RuntimeException("수정 권한이 없습니다.");
+        }
+
+        // 해당 스터디의 신청만 대상 (현재 상태와 함께 잠가서 읽음)
+        Map<Integer, ParticipationStatus> currentStatuses = new HashMap<>();
+        for (ParticipationStatusView row : participationRepository.findStatusesForUpdate(studyId, requestedIds)) {
+            currentStatuses.put(row.getId(), row.getStatus());
+        }
+
+        // 이미 요청한 상태인 건은 바꾸지 않음
+        List<Integer> ids = new ArrayList<>();
+        for (Map.Entry<Integer, ParticipationStatus> e : currentStatuses.entrySet()) {
+            if (e.getValue() != dto.getStatus()) {
+                ids.add(e.getKey());
+            }
+        }
+
+        int updatedCount = 0;
+        if (!ids.isEmpty()) {
+            String status = dto.getStatus().name();
+
+            if (dto.getStatus() == ParticipationStatus.APPROVED) {
+                // 새로 승인된 건수만큼 자리 확보 (부족하면 전체 롤백)
+                updatedCount = participationRepository.updateStatusByIds(studyId, ids, status);
+                applySeatChange(studyId, 0, updatedCount);
+            } else {
+                // 승인 → 다른 상태로 바뀐 건수만큼 자리 반환
+                int released = participationRepository.updateStatusByIdsFromStatus(
+                        studyId, ids, status, ParticipationStatus.APPROVED.name());
+                updatedCount = released + participationRepository.updateStatusByIds(studyId, ids, status);
+                applySeatChange(studyId, released, 0);
+            }
+            contentVersionRegistry.participationsChanged(studyId.longValue());
+        }
+
+        List<ParticipationBatchResultDTO.Item> results = new ArrayList<>(requestedIds.size());
+        for (Integer id : requestedIds) {
+            ParticipationStatus current = currentStatuses.get(id);
+            Outcome outcome = current == null ? Outcome.NOT_FOUND
+                    : current == dto.getStatus() ? Outcome.UNCHANGED : Outcome.UPDATED;
+            results.add(ParticipationBatchResultDTO.Item.builder()
+                    .participationId(id)
+                    .success(outcome != Outcome.NOT_FOUND)
+                    .outcome(outcome)
+                    .message(switch (outcome) {
+                        case NOT_FOUND -> "해당 스터디의 참여 신청을 찾을 수 없습니다.";
+                        case UNCHANGED -> "이미 요청한 상태입니다.";
+                        case UPDATED -> null;
+                    })
+                    .build());
+        }
+
+        return ParticipationBatchResultDTO.builder()
+                .status(dto.getStatus())
+                .updatedCount(updatedCount)
+                .results(results)
+                .build();
+    }
+
     // 참여 신청 취소 (신청자 본인만)
     @Transactional
     public void deleteParticipation(Integer studyId, Integer participationId, String email) {
@@ -193,7 +309,7 @@ public class ParticipationService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 신청자 본인 확인
-        if (!participation.getUserId().equals(user.getId())) {
+        if (!participation.getUserId().equals(user.getId().intValue())) {
             throw new RuntimeException("삭제 권한이 없습니다.");
         }
 
@@ -203,5 +319,39 @@ public class ParticipationService {
         }
 
         participationRepository.delete(participation);
+        studyStatsRepository.addDeltas(studyId.longValue(), 0, -1);
+        if (participation.getStatus() == ParticipationStatus.APPROVED) {
+            applySeatChange(studyId, 1, 0);
+        }
+        contentVersionRegistry.participationsChanged(studyId.longValue());
+    }
+
+    // 빈 키는 없는 것으로, 컬럼 길이를 넘는 키는 거절 (INSERT IGNORE 는 잘린 값을 경고만 하고 저장함)
+    private String normalizeIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key 는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        return key;
+    }
+
+    // 모집 인원 반영: released 만큼 반환, claimed 만큼 확보 (정원 초과 시 예외 → 트랜잭션 롤백)
+    // 반환 시 정원 아래로 내려가면 모집중, 확보 시 정원이 차면 모집완료로 같은 UPDATE 에서 변경
+    // 정원에 따라 바뀐 모집 상태는 커밋 후 추천 색인에도 반영 (모집완료 스터디는 추천 제외)
+    private void applySeatChange(Integer studyId, int released, int claimed) {
+        if (released == 0 && claimed == 0) {
+            return;
+        }
+        if (released > 0) {
+            studyRepository.releaseSeats(studyId.longValue(), released);
+        }
+        if (claimed > 0 && studyRepository.claimSeats(studyId.longValue(), claimed) == 0) {
+            throw new RuntimeException("모집 인원이 가득 찼습니다.");
+        }
+        boolean closed = STATUS_CLOSED.equals(studyRepository.findStatusById(studyId.longValue()));
+        AfterCommit.run(() -> techMatchIndex.setClosed(studyId.longValue(), closed));
     }
 }
@@ -6,13 +6,15 @@ import com.example.demo.dto.ResetPasswordDTO;
 import com.example.demo.dto.VerifyCodeDTO;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
@@ -21,12 +23,19 @@ public class PasswordResetService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final MailService mailService;
+    private final PrincipalCache principalCache;
+    private final EntityCacheService entityCacheService;
 
-    /** 이메일별 인증코드 저장 */
-    private final Map<String, String> codeStorage = new ConcurrentHashMap<>();
+    /** 인증코드 / 인증 완료 상태 유효 시간 (메일 안내 문구와 동일하게 10분) */
+    private static final Duration CODE_TTL = Duration.ofMinutes(10);
 
-    /** 인증이 끝난 이메일 표시용 */
-    private final Map<String, Boolean> verifiedEmailStorage = new ConcurrentHashMap<>();
+    /** 코드당 최대 검증 시도 횟수 */
+    private static final int MAX_VERIFY_ATTEMPTS = 5;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** 이메일별 인증코드, 인증 완료 표시, 시도 횟수 저장 (만료 + 최대 개수 제한) */
+    private final VerificationStore verificationStore;
 
     // 1단계: 이메일로 인증코드 발송
     public void sendResetCode(ForgotPasswordRequestDTO dto) {
@@ -36,10 +45,13 @@ public class PasswordResetService {
                 .orElseThrow(() -> new RuntimeException("가입된 사용자를 찾을 수 없습니다."));
 
         // 6자리 랜덤 코드 생성
-        String code = String.valueOf(100000 + new Random().nextInt(900000));
+        String code = String.valueOf(100000 + RANDOM.nextInt(900000));
 
-        // 메모리에 저장
-        codeStorage.put(dto.getEmail(), code);
+        // 10분간 저장 (새 코드 발급 시 시도 횟수 초기화)
+        if (!verificationStore.put(codeKey(dto.getEmail()), code, CODE_TTL)) {
+            throw new RuntimeException("요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        verificationStore.remove(attemptKey(dto.getEmail()));
 
         // 메일 발송
         mailService.sendResetCode(dto.getEmail(), code);
@@ -47,25 +59,39 @@ public class PasswordResetService {
 
     // 2단계: 코드 검증
     public void verifyCode(VerifyCodeDTO dto) {
-        String savedCode = codeStorage.get(dto.getEmail());
+        // 발급된 코드가 없으면 시도 횟수를 만들지 않음 (없는 이메일로 저장소를 채우지 못하게)
+        String savedCode = verificationStore.get(codeKey(dto.getEmail()));
+        if (savedCode == null) {
+            throw new RuntimeException("인증코드가 올바르지 않습니다.");
+        }
+
+        // 코드 추측 방지: 시도 횟수 제한
+        int attempts = verificationStore.increment(attemptKey(dto.getEmail()), CODE_TTL);
+        if (attempts > MAX_VERIFY_ATTEMPTS) {
+            verificationStore.remove(codeKey(dto.getEmail()));
+            throw new RuntimeException("인증 시도 횟수를 초과했습니다. 인증코드를 다시 요청해주세요.");
+        }
 
-        if (savedCode == null || !savedCode.equals(dto.getCode())) {
+        if (dto.getCode() == null || !MessageDigest.isEqual(
+                savedCode.getBytes(StandardCharsets.UTF_8), dto.getCode().getBytes(StandardCharsets.UTF_8))) {
             throw new RuntimeException("인증코드가 올바르지 않습니다.");
         }
 
         // 코드가 맞으면 "이메일 인증 완료" 표시
-        verifiedEmailStorage.put(dto.getEmail(), true);
+        if (!verificationStore.put(verifiedKey(dto.getEmail()), "true", CODE_TTL)) {
+            throw new RuntimeException("요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
 
         // 코드 자체는 더 이상 필요 없으니 제거
-        codeStorage.remove(dto.getEmail());
+        verificationStore.remove(codeKey(dto.getEmail()));
+        verificationStore.remove(attemptKey(dto.getEmail()));
     }
 
     // 3단계: 새 비밀번호로 변경
     public void resetPassword(ResetPasswordDTO dto) {
 
         // 코드 인증이 안 돼 있으면 막기
-        Boolean verified = verifiedEmailStorage.get(dto.getEmail());
-        if (verified == null || !verified) {
+        if (verificationStore.get(verifiedKey(dto.getEmail())) == null) {
             throw new RuntimeException("먼저 이메일 인증을 완료해주세요.");
         }
 
@@ -74,8 +100,22 @@ public class PasswordResetService {
 
         user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         userRepository.save(user);
+        principalCache.evict(user.getEmail());
+        entityCacheService.evictUser(user.getId());
 
         // 한 번 쓴 인증은 제거
-        verifiedEmailStorage.remove(dto.getEmail());
+        verificationStore.remove(verifiedKey(dto.getEmail()));
+    }
+
+    private String codeKey(String email) {
+        return "reset-code:" + email;
+    }
+
+    private String verifiedKey(String email) {
+        return "reset-verified:" + email;
+    }
+
+    private String attemptKey(String email) {
+        return "reset-attempts:" + email;
     }
 }
\ No newline at end of file
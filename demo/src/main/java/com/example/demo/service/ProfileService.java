@@ -9,12 +9,19 @@ import com.example.demo.entity.User;
 import com.example.demo.repository.ProfileRepository;
 import com.example.demo.repository.ProfileTechStackRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +31,8 @@ public class ProfileService {
     private final ProfileRepository profileRepository;
     private final ProfileTechStackRepository techStackRepository;
     private final UserRepository userRepository;
+    private final EntityCacheService entityCacheService;
+    private final TechMatchIndex techMatchIndex;
 
     /**
      * 본인 프로필 조회 (이메일 포함)
@@ -102,6 +111,8 @@ public class ProfileService {
 
     /**
      * 프로필 수정 (생성 또는 업데이트)
+     * 기술 스택은 기존 목록과 비교해 빠진 것만 한 번에 삭제, 추가된 것만 batch INSERT
+     * 응답은 다시 조회하지 않고 메모리의 값으로 만든다.
      */
     @Transactional
     public MyProfileResponseDto updateProfile(String email, ProfileUpdateRequestDto dto) {
@@ -109,10 +120,10 @@ public class ProfileService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 프로필이 없으면 생성, 있으면 업데이트
-        Profile profile = profileRepository.findByUserId(user.getId())
-                .orElse(Profile.builder()
-                        .userId(user.getId())
-                        .build());
+        Profile existing = profileRepository.findByUserId(user.getId()).orElse(null);
+        Profile profile = existing != null ? existing : Profile.builder()
+                .userId(user.getId())
+                .build();
 
         // 프로필 정보 업데이트
         if (dto.getAddress() != null) {
@@ -126,21 +137,70 @@ public class ProfileService {
         }
 
         profile = profileRepository.save(profile);
+        entityCacheService.evictProfile(profile.getId());
 
-        // 기술 스택 업데이트 (기존 삭제 후 재등록)
+        // 새 프로필은 기존 기술 스택이 없으므로 조회 생략
+        List<String> currentTechs = existing == null ? List.of()
+                : techStackRepository.findByProfileId(profile.getId())
+                        .stream()
+                        .map(ProfileTechStack::getTech)
+                        .collect(Collectors.toList());
+
+        List<String> techStack = currentTechs;
         if (dto.getTechStack() != null) {
-            techStackRepository.deleteByProfileId(profile.getId());
+            techStack = syncTechStack(profile.getId(), currentTechs, dto.getTechStack());
+            List<String> indexed = techStack;
+            AfterCommit.run(() -> techMatchIndex.indexProfile(user.getId(), indexed));
+        }
+
+        return MyProfileResponseDto.builder()
+                .name(user.getName())
+                .email(user.getEmail())
+                .address(profile.getAddress())
+                .age(profile.getAge())
+                .bio(profile.getBio())
+                .techStack(techStack)
+                .joinDate(profile.getCreatedAt())
+                .build();
+    }
+
+    // 기술 스택 동기화: 삭제 DELETE 1회 + 추가 INSERT batch 1회 (변경 없으면 쿼리 없음)
+    // 기술 이름은 대소문자 구분 없이 같은 기술로 본다 (MySQL 기본 collation 의 PK 비교와 같게)
+    // "Java" 와 "java" 가 함께 오면 먼저 온 표기만 저장, 표기만 바뀌면 기존 행을 지우고 새 표기로 저장
+    private List<String> syncTechStack(Long profileId, List<String> currentTechs, List<String> requestedTechs) {
+        // 공백 제거, 빈 값/중복 제외 (요청 순서 유지, 키 = 소문자)
+        Map<String, String> desired = new LinkedHashMap<>();
+        for (String tech : requestedTechs) {
+            if (tech != null && !tech.isBlank()) {
+                desired.putIfAbsent(tech.trim().toLowerCase(Locale.ROOT), tech.trim());
+            }
+        }
+
+        Set<String> current = new HashSet<>(currentTechs);
 
-            for (String tech : dto.getTechStack()) {
-                ProfileTechStack techStack = ProfileTechStack.builder()
-                        .profileId(profile.getId())
+        List<String> removed = new ArrayList<>();
+        for (String tech : current) {
+            if (!tech.equals(desired.get(tech.toLowerCase(Locale.ROOT)))) {
+                removed.add(tech);
+            }
+        }
+        if (!removed.isEmpty()) {
+            techStackRepository.deleteByProfileIdAndTechIn(profileId, removed);
+        }
+
+        List<ProfileTechStack> added = new ArrayList<>();
+        for (String tech : desired.values()) {
+            if (!current.contains(tech)) {
+                added.add(ProfileTechStack.builder()
+                        .profileId(profileId)
                         .tech(tech)
-                        .build();
-                techStackRepository.save(techStack);
+                        .build());
             }
         }
+        if (!added.isEmpty()) {
+            techStackRepository.saveAll(added);
+        }
 
-        // 업데이트된 프로필 반환
-        return getMyProfile(email);
+        return new ArrayList<>(desired.values());
     }
-}
\ No newline at end of file
+}
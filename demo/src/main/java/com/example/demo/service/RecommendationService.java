@@ -0,0 +1,113 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.MemberRecommendationDTO;
+import com.example.demo.dto.StudyRecommendationDTO;
+import com.example.demo.dto.StudySummaryDTO;
+import com.example.demo.entity.Study;
+import com.example.demo.entity.User;
+import com.example.demo.repository.ParticipationRepository;
+import com.example.demo.repository.StudyRepository;
+import com.example.demo.repository.StudySummaryView;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.util.ProjectionMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 50;
+
+    private final TechMatchIndex techMatchIndex;
+    private final UserRepository userRepository;
+    private final StudyRepository studyRepository;
+    private final ParticipationRepository participationRepository;
+
+    // 내 기술 스택에 맞는 스터디 (점수 순)
+    @Transactional(readOnly = true)
+    public List<StudyRecommendationDTO> getRecommendedStudies(String email, Integer size) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        List<TechMatchIndex.Match> matches = techMatchIndex.recommendStudies(user.getId(), limit(size));
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (TechMatchIndex.Match match : matches) {
+            ids.add(match.id());
+        }
+
+        Map<Long, StudySummaryDTO> byId = new HashMap<>();
+        for (StudySummaryView row : studyRepository.findSummariesByIds(ids)) {
+            byId.put(row.getId(), ProjectionMapper.toStudySummary(row));
+        }
+
+        List<StudyRecommendationDTO> result = new ArrayList<>(matches.size());
+        for (TechMatchIndex.Match match : matches) {
+            StudySummaryDTO study = byId.get(match.id());
+            if (study != null) {
+                result.add(new StudyRecommendationDTO(study, match.score()));
+            }
+        }
+        return result;
+    }
+
+    // 스터디에 맞는 회원 (스터디 작성자만, 이미 신청한 회원 제외)
+    @Transactional(readOnly = true)
+    public List<MemberRecommendationDTO> getRecommendedMembers(Long studyId, String email, Integer size) {
+        Study study = studyRepository.findById(studyId)
+                .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        if (!study.getAuthorId().equals(user.getId())) {
+            throw new RuntimeException("조회 권한이 없습니다.");
+        }
+
+        Set<Long> applicants = new HashSet<>();
+        for (Integer userId : participationRepository.findUserIdsByStudyId(studyId.intValue())) {
+            applicants.add(userId.longValue());
+        }
+
+        List<TechMatchIndex.Match> matches = techMatchIndex.recommendMembers(studyId, limit(size), applicants);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (TechMatchIndex.Match match : matches) {
+            ids.add(match.id());
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (User member : userRepository.findAllById(ids)) {
+            names.put(member.getId(), member.getName());
+        }
+
+        List<MemberRecommendationDTO> result = new ArrayList<>(matches.size());
+        for (TechMatchIndex.Match match : matches) {
+            String name = names.get(match.id());
+            if (name != null) {
+                result.add(new MemberRecommendationDTO(match.id(), name, match.score()));
+            }
+        }
+        return result;
+    }
+
+    private int limit(Integer size) {
+        return (size == null || size <= 0) ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+}
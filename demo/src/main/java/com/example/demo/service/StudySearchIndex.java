@@ -0,0 +1,321 @@
+package com.example.demo.service;
+
+import com.example.demo.util.KoreanBigramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 스터디 검색용 메모리 역색인 (title, description, curriculum, category)
+ * - 토큰화: KoreanBigramTokenizer
+ * - 점수: 필드 가중치를 곱한 TF × IDF
+ * - 서버 시작 시 study 테이블에서 재구성하고, 이후 StudyService 의 생성/수정/삭제 시 갱신
+ * 내부적으로 스터디마다 문서 번호(int)를 부여하고 posting 은 int/float 배열로 보관한다.
+ * 수정/삭제된 문서 번호는 삭제 표시만 하고, 일정 비율이 넘으면 압축한다.
+ * 재구성은 잠금 없이 새 색인을 만든 뒤 교체하고, 그동안 들어온 변경은 기록해 두었다가 새 색인에 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float BODY_WEIGHT = 1.0f;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Docs docs = new Docs();
+
+    // 재구성 중에 들어온 변경 (재구성 중이 아니면 null)
+    private List<Consumer<Docs>> pendingChanges;
+
+    // 서버 시작 시 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // DB 를 읽는 동안에는 잠그지 않음 (생성/수정/삭제가 기다리지 않도록)
+        Docs built = null;
+        try {
+            built = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built != null) {
+                    for (Consumer<Docs> change : pendingChanges) {
+                        change.accept(built);
+                    }
+                    docs = built;
+                }
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("스터디 검색 색인 구성 완료: {}건, {}ms", built.live(), System.currentTimeMillis() - start);
+    }
+
+    // 생성 / 수정 시 (기존 문서는 삭제 표시 후 새로 추가)
+    public void index(Long studyId, String title, String description, String curriculum, String category) {
+        apply(d -> d.put(studyId, title, description, curriculum, category));
+    }
+
+    // 삭제 시
+    public void remove(Long studyId) {
+        apply(d -> d.remove(studyId));
+    }
+
+    // 검색: 점수 높은 순 스터디 id 목록
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(KoreanBigramTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return docs.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========= 내부 =========
+
+    private void apply(Consumer<Docs> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(docs);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // id 기준 keyset 으로 나눠 읽어 메모리에 전체 결과를 올리지 않음
+    private Docs load() {
+        Docs built = new Docs();
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, title, description, curriculum, category FROM study " +
+                    "WHERE is_temp = false AND id > ? ORDER BY id LIMIT ?",
+                    lastId, REBUILD_BATCH_SIZE);
+            if (rows.isEmpty()) {
+                return built;
+            }
+            for (Map<String, Object> row : rows) {
+                lastId = ((Number) row.get("id")).longValue();
+                built.put(lastId, (String) row.get("title"), (String) row.get("description"),
+                        (String) row.get("curriculum"), (String) row.get("category"));
+            }
+        }
+    }
+
+    // 색인 본체 (write lock 안에서 변경, 재구성 중에는 잠금 없이 혼자 사용)
+    private static final class Docs {
+        private Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> docByStudyId = new HashMap<>();
+        private long[] studyIdByDoc = new long[1024];
+        private BitSet deleted = new BitSet();
+        private int docCount;
+
+        int live() {
+            return docByStudyId.size();
+        }
+
+        void put(Long studyId, String title, String description, String curriculum, String category) {
+            remove(studyId);
+
+            Map<String, Float> termWeights = new HashMap<>();
+            addField(termWeights, title, TITLE_WEIGHT);
+            addField(termWeights, category, CATEGORY_WEIGHT);
+            addField(termWeights, description, BODY_WEIGHT);
+            addField(termWeights, curriculum, BODY_WEIGHT);
+
+            int doc = docCount++;
+            if (doc == studyIdByDoc.length) {
+                studyIdByDoc = Arrays.copyOf(studyIdByDoc, doc * 2);
+            }
+            studyIdByDoc[doc] = studyId;
+            docByStudyId.put(studyId, doc);
+
+            for (Map.Entry<String, Float> e : termWeights.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new Postings()).add(doc, e.getValue());
+            }
+        }
+
+        private void addField(Map<String, Float> termWeights, String text, float weight) {
+            for (String token : KoreanBigramTokenizer.tokenize(text)) {
+                termWeights.merge(token, weight, Float::sum);
+            }
+        }
+
+        void remove(Long studyId) {
+            Integer doc = docByStudyId.remove(studyId);
+            if (doc == null) {
+                return;
+            }
+            deleted.set(doc);
+
+            // 삭제 표시가 전체의 1/4 을 넘으면 압축
+            int deletedCount = deleted.cardinality();
+            if (deletedCount > 1000 && deletedCount > docCount / 4) {
+                compact();
+            }
+        }
+
+        // 후보 문서만 점수화 (전체 문서 수 크기의 배열을 만들지 않음)
+        // posting 은 문서 번호 오름차순이므로 term 별 목록을 병합하며 문서 단위로 점수를 합산한다.
+        List<Long> search(List<String> terms, int limit) {
+            int live = live();
+            Postings[] lists = new Postings[terms.size()];
+            float[] idf = new float[terms.size()];
+            int listCount = 0;
+            for (String term : terms) {
+                Postings p = postings.get(term);
+                if (p != null) {
+                    lists[listCount] = p;
+                    idf[listCount++] = (float) Math.log(1.0 + (double) live / p.size);
+                }
+            }
+            if (listCount == 0) {
+                return List.of();
+            }
+
+            // term 별 현재 위치 (현재 문서 번호가 가장 작은 term 부터)
+            int[] pos = new int[listCount];
+            PriorityQueue<Integer> cursors = new PriorityQueue<>(listCount,
+                    (a, b) -> Integer.compare(lists[a].docs[pos[a]], lists[b].docs[pos[b]]));
+            for (int t = 0; t < listCount; t++) {
+                cursors.offer(t);
+            }
+
+            // 상위 limit 개만 유지하는 최소 힙
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(limit + 1,
+                    (a, b) -> Float.compare(a.score(), b.score()));
+            int currentDoc = -1;
+            float score = 0f;
+            while (!cursors.isEmpty()) {
+                int t = cursors.poll();
+                int doc = lists[t].docs[pos[t]];
+                if (doc != currentDoc) {
+                    offer(top, currentDoc, score, limit);
+                    currentDoc = doc;
+                    score = 0f;
+                }
+                score += lists[t].weights[pos[t]] * idf[t];
+                if (++pos[t] < lists[t].size) {
+                    cursors.offer(t);
+                }
+            }
+            offer(top, currentDoc, score, limit);
+
+            Long[] result = new Long[top.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = studyIdByDoc[top.poll().doc()];
+            }
+            return Arrays.asList(result);
+        }
+
+        private void offer(PriorityQueue<ScoredDoc> top, int doc, float score, int limit) {
+            if (doc < 0 || deleted.get(doc)) {
+                return;
+            }
+            if (top.size() < limit) {
+                top.offer(new ScoredDoc(doc, score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.offer(new ScoredDoc(doc, score));
+            }
+        }
+
+        // 삭제된 문서 번호를 제거하고 번호를 다시 매김 (순서는 유지)
+        private void compact() {
+            int[] remap = new int[docCount];
+            long[] newStudyIds = new long[Math.max(1024, docByStudyId.size())];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.get(doc)) {
+                    remap[doc] = -1;
+                } else {
+                    remap[doc] = next;
+                    newStudyIds[next] = studyIdByDoc[doc];
+                    docByStudyId.put(studyIdByDoc[doc], next);
+                    next++;
+                }
+            }
+
+            Map<String, Postings> newPostings = new HashMap<>(postings.size());
+            for (Map.Entry<String, Postings> e : postings.entrySet()) {
+                Postings compacted = e.getValue().remap(remap);
+                if (compacted.size > 0) {
+                    newPostings.put(e.getKey(), compacted);
+                }
+            }
+
+            postings = newPostings;
+            studyIdByDoc = newStudyIds;
+            deleted = new BitSet();
+            docCount = next;
+        }
+    }
+
+    private record ScoredDoc(int doc, float score) {
+    }
+
+    // 하나의 term 에 대한 (문서 번호, 가중치) 목록 - 문서 번호 오름차순
+    private static class Postings {
+        private int[] docs = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        Postings remap(int[] remap) {
+            Postings result = new Postings();
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    result.add(doc, weights[i]);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -1,25 +1,49 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.StudyFeedResponseDTO;
 import com.example.demo.dto.StudyRequestDTO;
 import com.example.demo.dto.StudyResponseDTO;
+import com.example.demo.dto.StudySummaryDTO;
 import com.example.demo.entity.Study;
 import com.example.demo.entity.User;
 import com.example.demo.repository.StudyRepository;
+import com.example.demo.repository.StudyStatsRepository;
+import com.example.demo.repository.StudySummaryView;
+import com.example.demo.repository.StudyView;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.AfterCommit;
+import com.example.demo.util.ProjectionMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class StudyService {
 
+    // 피드 페이지 크기 기본값 / 최대값
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
+
+    // 정원이 차면 유지되는 스터디 상태
+    private static final String STATUS_CLOSED = "모집완료";
+
     private final StudyRepository studyRepository;
+    private final StudyStatsRepository studyStatsRepository;
     private final UserRepository userRepository;
+    private final StudyViewCounter studyViewCounter;
+    private final ContentVersionRegistry contentVersionRegistry;
+    private final StudySearchIndex studySearchIndex;
+    private final TechMatchIndex techMatchIndex;
 
     // ========= 스터디 생성 =========
     @Transactional
@@ -43,6 +67,13 @@ public class StudyService {
                 .build();
 
         Study saved = studyRepository.save(study);
+        contentVersionRegistry.studyChanged(saved.getId());
+        AfterCommit.run(() -> {
+            studySearchIndex.index(saved.getId(), saved.getTitle(),
+                    saved.getDescription(), saved.getCurriculum(), saved.getCategory());
+            techMatchIndex.indexStudy(saved.getId(), saved.getAuthorId(), saved.getTitle(),
+                    saved.getCategory(), saved.getCurriculum(), saved.getStatus());
+        });
 
         return toDTO(saved, user.getName());
     }
@@ -52,53 +83,112 @@ public class StudyService {
     @Transactional(readOnly = true)
     public List<StudyResponseDTO> getAllStudies() {
 
-        List<Object[]> rows = studyRepository.findAllWithAuthor();
-        List<StudyResponseDTO> list = new ArrayList<>();
-
-        for (Object[] row : rows) {
-            // row 인덱스: id(0), author_id(1), title(2), description(3),
-            // status(4), category(5), schedule(6), location(7),
-            // recruit_count(8), curriculum(9), views(10), is_temp(11),
-            // created_at(12), updated_at(13), author_name(14)
-
-            StudyResponseDTO dto = StudyResponseDTO.builder()
-                    .id(((Number) row[0]).longValue())
-                    .title((String) row[2])
-                    .description((String) row[3])
-                    .status((String) row[4])
-                    .category((String) row[5])
-                    .schedule((String) row[6])
-                    .location((String) row[7])
-                    .recruitCount(row[8] != null ? ((Number) row[8]).intValue() : null)
-                    .curriculum((String) row[9])
-                    .views(row[10] != null ? ((Number) row[10]).intValue() : 0)
-                    .isTemp(row[11] != null ? (Boolean) row[11] : false)
-                    .createdAt(((Timestamp) row[12]).toLocalDateTime())
-                    .updatedAt(((Timestamp) row[13]).toLocalDateTime())
-                    .author((String) row[14])
-                    .build();
-
-            list.add(dto);
+        List<StudyView> rows = studyRepository.findAllWithAuthor();
+        List<StudyResponseDTO> list = new ArrayList<>(rows.size());
+
+        for (StudyView row : rows) {
+            list.add(ProjectionMapper.toStudyResponse(row));
         }
 
         return list;
     }
 
 
+    // ========= 스터디 피드 (커서 기반 페이지네이션) =========
+    @Transactional(readOnly = true)
+    public StudyFeedResponseDTO getStudyFeed(String cursor, Integer size,
+                                             String category, String status, String location) {
+
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+
+        category = emptyToNull(category);
+        status = emptyToNull(status);
+        location = emptyToNull(location);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<StudySummaryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = studyRepository.findFeedFirstPage(category, status, location, pageSize + 1);
+        } else {
+            String[] decoded = decodeCursor(cursor);
+            rows = studyRepository.findFeedAfter(category, status, location,
+                    LocalDateTime.parse(decoded[0]), Long.parseLong(decoded[1]), pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<StudySummaryDTO> items = new ArrayList<>(rows.size());
+        for (StudySummaryView row : rows) {
+            items.add(ProjectionMapper.toStudySummary(row));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            StudySummaryDTO last = items.get(items.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return StudyFeedResponseDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+
+    // ========= 스터디 검색 (제목/소개/커리큘럼/카테고리) =========
+    @Transactional(readOnly = true)
+    public List<StudySummaryDTO> searchStudies(String query, Integer size) {
+
+        int limit = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+
+        List<Long> rankedIds = studySearchIndex.search(query, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 검색 점수 순서대로 정렬
+        Map<Long, StudySummaryDTO> byId = new HashMap<>();
+        for (StudySummaryView row : studyRepository.findSummariesByIds(rankedIds)) {
+            byId.put(row.getId(), ProjectionMapper.toStudySummary(row));
+        }
+
+        List<StudySummaryDTO> result = new ArrayList<>(rankedIds.size());
+        for (Long id : rankedIds) {
+            StudySummaryDTO dto = byId.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+
     // ========= 스터디 상세 =========
-    @Transactional
+    @Transactional(readOnly = true)
     public StudyResponseDTO getStudyById(Long id) {
 
         Study study = studyRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
 
-        study.setViews(study.getViews() + 1);
-        studyRepository.save(study);
-
         User author = userRepository.findById(study.getAuthorId())
                 .orElseThrow(() -> new RuntimeException("작성자를 찾을 수 없습니다."));
 
-        return toDTO(study, author.getName());
+        // 조회수는 메모리 카운터에 올리고 StudyViewCounter 가 주기적으로 DB에 반영
+        studyViewCounter.increment(id);
+
+        StudyResponseDTO dto = toDTO(study, author.getName());
+        dto.setViews((int) (study.getViews() + studyViewCounter.getPending(id)));
+        return dto;
+    }
+
+
+    // ========= 조회수만 기록 (304 응답 시) =========
+    public void recordView(Long id) {
+        studyViewCounter.increment(id);
     }
 
 
@@ -106,7 +196,7 @@ public class StudyService {
     @Transactional
     public StudyResponseDTO updateStudy(Long id, StudyRequestDTO dto, String email) {
 
-        Study study = studyRepository.findById(id)
+        Study study = studyRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
 
         User user = userRepository.findByEmail(email)
@@ -118,14 +208,25 @@ public class StudyService {
 
         study.setTitle(dto.getTitle());
         study.setDescription(dto.getDescription());
-        study.setStatus(dto.getStatus());
         study.setCategory(dto.getCategory());
         study.setSchedule(dto.getSchedule());
         study.setLocation(dto.getLocation());
         study.setRecruitCount(dto.getRecruitCount());
+        // 승인 인원이 정원 이상이면 요청과 관계없이 모집완료 유지 (참여 승인 시 자동으로 바뀐 상태를 되돌리지 않음)
+        boolean full = study.getRecruitCount() != null && study.getApprovedCount() >= study.getRecruitCount();
+        study.setStatus(full ? STATUS_CLOSED : dto.getStatus());
         study.setCurriculum(dto.getCurriculum());
 
         Study updated = studyRepository.save(study);
+        contentVersionRegistry.studyChanged(id);
+        if (!Boolean.TRUE.equals(updated.getIsTemp())) {
+            AfterCommit.run(() -> {
+                studySearchIndex.index(id, updated.getTitle(),
+                        updated.getDescription(), updated.getCurriculum(), updated.getCategory());
+                techMatchIndex.indexStudy(id, updated.getAuthorId(), updated.getTitle(),
+                        updated.getCategory(), updated.getCurriculum(), updated.getStatus());
+            });
+        }
 
         return toDTO(updated, user.getName());
     }
@@ -146,6 +247,13 @@ public class StudyService {
         }
 
         studyRepository.delete(study);
+        studyStatsRepository.deleteByStudyId(id);
+        studyViewCounter.discard(id);
+        contentVersionRegistry.studyDeleted(id);
+        AfterCommit.run(() -> {
+            studySearchIndex.remove(id);
+            techMatchIndex.removeStudy(id);
+        });
     }
 
 
@@ -156,33 +264,11 @@ public class StudyService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        List<Object[]> rows = studyRepository.findByAuthorIdWithAuthor(user.getId());
-        List<StudyResponseDTO> list = new ArrayList<>();
-
-        for (Object[] row : rows) {
-            // row 인덱스: id(0), author_id(1), title(2), description(3),
-            // status(4), category(5), schedule(6), location(7),
-            // recruit_count(8), curriculum(9), views(10), is_temp(11),
-            // created_at(12), updated_at(13), author_name(14)
-
-            StudyResponseDTO dto = StudyResponseDTO.builder()
-                    .id(((Number) row[0]).longValue())
-                    .title((String) row[2])
-                    .description((String) row[3])
-                    .status((String) row[4])
-                    .category((String) row[5])
-                    .schedule((String) row[6])
-                    .location((String) row[7])
-                    .recruitCount(row[8] != null ? ((Number) row[8]).intValue() : null)
-                    .curriculum((String) row[9])
-                    .views(row[10] != null ? ((Number) row[10]).intValue() : 0)
-                    .isTemp(row[11] != null ? (Boolean) row[11] : false)
-                    .createdAt(((Timestamp) row[12]).toLocalDateTime())
-                    .updatedAt(((Timestamp) row[13]).toLocalDateTime())
-                    .author((String) row[14])
-                    .build();
-
-            list.add(dto);
+        List<StudyView> rows = studyRepository.findByAuthorIdWithAuthor(user.getId());
+        List<StudyResponseDTO> list = new ArrayList<>(rows.size());
+
+        for (StudyView row : rows) {
+            list.add(ProjectionMapper.toStudyResponse(row));
         }
 
         return list;
@@ -231,6 +317,35 @@ public class StudyService {
     }
 
 
+    // ========= 피드 커서 인코딩/디코딩 =========
+    // 커서 형식: Base64URL("createdAt|id")
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            // 형식 검증 (파싱 실패 시 예외)
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+
+    private String emptyToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value;
+    }
+
+
     // ========= Entity → DTO 변환 메서드 =========
     private StudyResponseDTO toDTO(Study s, String authorName) {
 
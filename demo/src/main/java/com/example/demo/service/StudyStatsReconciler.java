@@ -0,0 +1,122 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * study_stats / study.approved_count 보정 작업
+ * 증감분 갱신이 실패하거나 DB 에서 직접 지운 행이 있으면 집계가 실제 건수와 어긋나므로,
+ * 주기적으로 스터디 id 순으로 나눠 실제 COUNT 와 비교해 차이만큼 더한다.
+ * 값을 덮어쓰지 않고 차이를 더하므로, 비교 후 반영 전에 들어온 증감분도 잃지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyStatsReconciler {
+
+    // 저장된 집계와 실제 건수 (한 문장으로 읽어 같은 시점 기준으로 비교)
+    private static final String COMPARE_SQL =
+            "SELECT s.id AS id, " +
+            "COALESCE(st.comment_count, 0) AS comment_count, " +
+            "COALESCE(st.applicant_count, 0) AS applicant_count, " +
+            "s.approved_count AS approved_count, " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.study_id = s.id) AS actual_comments, " +
+            "(SELECT COUNT(*) FROM participation p WHERE p.study_id = s.id) AS actual_applicants, " +
+            "(SELECT COUNT(*) FROM participation p WHERE p.study_id = s.id AND p.status = 'APPROVED') AS actual_approved " +
+            "FROM study s LEFT JOIN study_stats st ON st.study_id = s.id " +
+            "WHERE s.id > ? ORDER BY s.id LIMIT ?";
+
+    private static final String STATS_DELTA_SQL =
+            "INSERT INTO study_stats (study_id, comment_count, applicant_count, updated_at) " +
+            "VALUES (?, GREATEST(?, 0), GREATEST(?, 0), CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "comment_count = GREATEST(comment_count + ?, 0), " +
+            "applicant_count = GREATEST(applicant_count + ?, 0), " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    private static final String APPROVED_DELTA_SQL =
+            "UPDATE study SET approved_count = GREATEST(approved_count + ?, 0) WHERE id = ?";
+
+    // 삭제된 스터디의 집계
+    private static final String DELETE_ORPHANS_SQL =
+            "DELETE FROM study_stats WHERE NOT EXISTS (SELECT 1 FROM study s WHERE s.id = study_stats.study_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheService entityCacheService;
+
+    @Value("${study.stats.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    // 보정한 스터디 수 반환
+    @Scheduled(cron = "${study.stats.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        long startedAt = System.currentTimeMillis();
+        int repaired = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(COMPARE_SQL, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> statsDeltas = new ArrayList<>();
+            List<Object[]> approvedDeltas = new ArrayList<>();
+            List<Long> approvedIds = new ArrayList<>();
+
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                int commentDelta = diff(row, "actual_comments", "comment_count");
+                int applicantDelta = diff(row, "actual_applicants", "applicant_count");
+                int approvedDelta = diff(row, "actual_approved", "approved_count");
+
+                if (commentDelta != 0 || applicantDelta != 0) {
+                    statsDeltas.add(new Object[]{id, commentDelta, applicantDelta, commentDelta, applicantDelta});
+                }
+                if (approvedDelta != 0) {
+                    approvedDeltas.add(new Object[]{approvedDelta, id});
+                    approvedIds.add(id);
+                }
+                if (commentDelta != 0 || applicantDelta != 0 || approvedDelta != 0) {
+                    repaired++;
+                }
+                lastId = id;
+            }
+
+            if (!statsDeltas.isEmpty()) {
+                jdbcTemplate.batchUpdate(STATS_DELTA_SQL, statsDeltas);
+            }
+            if (!approvedDeltas.isEmpty()) {
+                jdbcTemplate.batchUpdate(APPROVED_DELTA_SQL, approvedDeltas);
+                // 2차 캐시의 스터디는 이전 승인 인원을 들고 있으므로 비움
+                entityCacheService.evictStudies(approvedIds);
+            }
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+
+        int orphans = jdbcTemplate.update(DELETE_ORPHANS_SQL);
+
+        if (repaired > 0 || orphans > 0) {
+            log.warn("스터디 집계 보정: {}건 보정, {}건 정리 ({}ms)",
+                    repaired, orphans, System.currentTimeMillis() - startedAt);
+        }
+        return repaired;
+    }
+
+    private int diff(Map<String, Object> row, String actualColumn, String storedColumn) {
+        long actual = ((Number) row.get(actualColumn)).longValue();
+        Object stored = row.get(storedColumn);
+        return (int) (actual - (stored != null ? ((Number) stored).longValue() : 0));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스터디 조회수 write-behind 카운터
+ * 조회 시에는 메모리 카운터만 증가시키고, 주기적으로(또는 종료 시) 모아서 DB에 반영한다.
+ * 한 주기 동안 조회가 없던 스터디의 카운터는 flush 때 제거한다 (조회된 적 있는 모든 id 가 남지 않도록).
+ * 지표: study.views.pending(미반영 조회수), study.views.pending.studies(카운터 수), study.views.flushes
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE study SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheService entityCacheService;
+    private final MeterRegistry meterRegistry;
+
+    /** 스터디 id별 아직 DB에 반영되지 않은 조회수 */
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /** 지금까지 실행된 flush 횟수 */
+    private final AtomicLong flushCount = new AtomicLong();
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("study.views.pending", this, StudyViewCounter::getPendingIncrements).register(meterRegistry);
+        Gauge.builder("study.views.pending.studies", pending, Map::size).register(meterRegistry);
+        FunctionCounter.builder("study.views.flushes", flushCount, AtomicLong::get).register(meterRegistry);
+    }
+
+    // 조회수 1 증가 (메모리)
+    // flush 가 빈 카운터를 지우는 사이에 더했으면 (지워진 카운터는 다시 읽히지 않으므로) 되돌리고 새 카운터에 다시 더함
+    public void increment(Long studyId) {
+        while (true) {
+            LongAdder adder = pending.computeIfAbsent(studyId, id -> new LongAdder());
+            adder.increment();
+            if (pending.get(studyId) == adder) {
+                return;
+            }
+            adder.decrement();
+        }
+    }
+
+    // 특정 스터디의 미반영 조회수
+    public long getPending(Long studyId) {
+        LongAdder adder = pending.get(studyId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // 전체 미반영 조회수
+    public long getPendingIncrements() {
+        long total = 0;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    // 삭제된 스터디는 더 이상 반영할 필요 없음
+    public void discard(Long studyId) {
+        pending.remove(studyId);
+    }
+
+    // 주기적으로 DB에 일괄 반영
+    @Scheduled(fixedDelayString = "${study.views.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+
+        for (Long studyId : pending.keySet()) {
+            // 지난 flush 이후 조회가 없으면 제거 (제거된 카운터는 다시 읽지 않음)
+            LongAdder adder = pending.computeIfPresent(studyId, (id, a) -> a.sum() == 0 ? null : a);
+            if (adder == null) {
+                continue;
+            }
+            // sumThenReset 은 셀을 읽은 뒤 0 으로 만드는 사이에 더해진 조회를 잃을 수 있으므로
+            // 읽은 만큼만 빼서 그 사이의 조회는 다음 flush 로 넘긴다
+            long delta = adder.sum();
+            adder.add(-delta);
+            if (delta > 0) {
+                batch.add(new Object[]{delta, studyId});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            flushCount.incrementAndGet();
+
+            // 2차 캐시의 스터디는 이전 조회수를 들고 있으므로 비움
+            List<Long> flushedIds = new ArrayList<>(batch.size());
+            for (Object[] row : batch) {
+                flushedIds.add((Long) row[1]);
+            }
+            entityCacheService.evictStudies(flushedIds);
+        } catch (RuntimeException e) {
+            // 실패한 증가분은 다음 flush 때 다시 시도
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            log.warn("조회수 반영 실패 ({}건), 다음 주기에 재시도합니다.", batch.size(), e);
+        }
+    }
+
+    // 서버 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
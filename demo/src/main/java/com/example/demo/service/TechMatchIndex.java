@@ -0,0 +1,540 @@
+package com.example.demo.service;
+
+import com.example.demo.util.KoreanBigramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 기술 스택 매칭용 메모리 역색인 (기술 → 사용자, 기술 → 스터디)
+ * - 사용자: profile_tech_stack 의 기술
+ * - 스터디: title, category, curriculum (임시저장 제외)
+ * - 토큰화: KoreanBigramTokenizer (양쪽 모두 같은 방식이라 "Spring Boot" 와 "spring boot 실습" 이 겹침)
+ * - 점수: IDF 가중 Jaccard = 공통 기술 IDF 합 / 합집합 기술 IDF 합
+ * 기술은 int 번호, 문서는 int 번호로 바꿔 posting 을 int 배열로 보관한다.
+ * 어느 쪽에서도 쓰이지 않게 된 기술 번호는 반납해 다음 기술이 다시 쓴다.
+ * 서버 시작 시 재구성하고, 이후 프로필/스터디 변경 시 해당 문서만 다시 색인한다.
+ * 재구성은 잠금 없이 새 색인을 만든 뒤 교체하고, 그동안 들어온 변경은 기록해 두었다가 새 색인에 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TechMatchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final String STATUS_CLOSED = "모집완료";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Model model = new Model();
+
+    // 재구성 중에 들어온 변경 (재구성 중이 아니면 null)
+    private List<Consumer<Model>> pendingChanges;
+
+    // 서버 시작 시 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // DB 를 읽는 동안에는 잠그지 않음 (프로필/스터디 저장, 참여 승인이 기다리지 않도록)
+        Model built = null;
+        try {
+            built = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built != null) {
+                    for (Consumer<Model> change : pendingChanges) {
+                        change.accept(built);
+                    }
+                    model = built;
+                }
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("기술 매칭 색인 구성 완료: 사용자 {}명, 스터디 {}건, 기술 {}개, {}ms",
+                built.profiles.live(), built.studies.live(), built.terms.size(), System.currentTimeMillis() - start);
+    }
+
+    // 프로필 기술 스택 변경 시
+    public void indexProfile(Long userId, Collection<String> techs) {
+        apply(m -> m.putProfile(userId, techs));
+    }
+
+    // 스터디 생성 / 수정 시
+    public void indexStudy(Long studyId, Long authorId, String title, String category, String curriculum,
+                           String status) {
+        apply(m -> m.putStudy(studyId, authorId, title, category, curriculum, status));
+    }
+
+    // 스터디 삭제 시
+    public void removeStudy(Long studyId) {
+        apply(m -> m.removeStudy(studyId));
+    }
+
+    // 모집 상태 변경 시 (참여 승인/취소로 정원이 차거나 다시 열릴 때) - 기술은 그대로라 표시만 바꿈
+    public void setClosed(Long studyId, boolean closed) {
+        apply(m -> m.studies.setClosed(studyId, closed));
+    }
+
+    // 사용자에게 맞는 스터디 (본인 스터디, 모집완료 제외)
+    public List<Match> recommendStudies(Long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] terms = model.profiles.terms(userId);
+            if (terms == null) {
+                return List.of();
+            }
+            return topMatches(terms, model.studies, limit, userId, Set.of());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 스터디에 맞는 사용자 (작성자, excludeUserIds 제외)
+    public List<Match> recommendMembers(Long studyId, int limit, Set<Long> excludeUserIds) {
+        lock.readLock().lock();
+        try {
+            int[] terms = model.studies.terms(studyId);
+            if (terms == null) {
+                return List.of();
+            }
+            return topMatches(terms, model.profiles, limit, model.studies.owner(studyId), excludeUserIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 현재 기술 번호 수 (반납된 번호 제외)
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return model.terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========= 내부 =========
+
+    private void apply(Consumer<Model> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(model);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Model load() {
+        Model built = new Model();
+
+        // 프로필: id keyset 으로 1000개씩 읽고, 그 범위의 기술을 한 번에 조회
+        long lastProfileId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, user_id FROM profile WHERE id > ? ORDER BY id LIMIT ?",
+                    lastProfileId, REBUILD_BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            long firstProfileId = ((Number) rows.get(0).get("id")).longValue();
+            Map<Long, Long> userByProfile = new HashMap<>();
+            for (Map<String, Object> row : rows) {
+                lastProfileId = ((Number) row.get("id")).longValue();
+                userByProfile.put(lastProfileId, ((Number) row.get("user_id")).longValue());
+            }
+
+            Map<Long, List<String>> techsByUser = new HashMap<>();
+            jdbcTemplate.query("SELECT profile_id, tech FROM profile_tech_stack WHERE profile_id BETWEEN ? AND ?",
+                    rs -> {
+                        Long userId = userByProfile.get(rs.getLong("profile_id"));
+                        if (userId != null) {
+                            techsByUser.computeIfAbsent(userId, k -> new ArrayList<>()).add(rs.getString("tech"));
+                        }
+                    },
+                    firstProfileId, lastProfileId);
+            for (Map.Entry<Long, List<String>> e : techsByUser.entrySet()) {
+                built.putProfile(e.getKey(), e.getValue());
+            }
+        }
+
+        long lastStudyId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, author_id, title, category, curriculum, status FROM study " +
+                    "WHERE is_temp = false AND id > ? ORDER BY id LIMIT ?",
+                    lastStudyId, REBUILD_BATCH_SIZE);
+            if (rows.isEmpty()) {
+                return built;
+            }
+            for (Map<String, Object> row : rows) {
+                lastStudyId = ((Number) row.get("id")).longValue();
+                built.putStudy(lastStudyId, ((Number) row.get("author_id")).longValue(),
+                        (String) row.get("title"), (String) row.get("category"), (String) row.get("curriculum"),
+                        (String) row.get("status"));
+            }
+        }
+    }
+
+    // query 기술과 겹치는 target 문서를 IDF 가중 Jaccard 로 점수화해 상위 limit 개 반환
+    // excludeOwner 소유 문서, excludeIds 문서는 제외
+    private List<Match> topMatches(int[] queryTerms, Side target, int limit, long excludeOwner, Set<Long> excludeIds) {
+        int live = target.live();
+        if (live == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        float[] idf = target.idf();
+
+        float queryWeight = 0f;
+        for (int term : queryTerms) {
+            queryWeight += term < idf.length ? idf[term] : (float) Math.log(1.0 + live);
+        }
+
+        // 후보 문서만 점수화 (전체 문서 수 크기의 배열을 만들지 않음)
+        // posting 한 건 = (문서 번호 << 32 | IDF 비트) → 정렬하면 같은 문서끼리 모임
+        int hits = 0;
+        for (int term : queryTerms) {
+            IntPostings p = term < target.postings.length ? target.postings[term] : null;
+            if (p != null) {
+                hits += p.size;
+            }
+        }
+        long[] entries = new long[hits];
+        int entryCount = 0;
+        for (int term : queryTerms) {
+            IntPostings p = term < target.postings.length ? target.postings[term] : null;
+            if (p == null) {
+                continue;
+            }
+            long weight = Float.floatToRawIntBits(idf[term]) & 0xffffffffL;
+            for (int i = 0; i < p.size; i++) {
+                int doc = p.docs[i];
+                if (target.deleted.get(doc) || target.closed.get(doc) || target.ownerByDoc[doc] == excludeOwner
+                        || (!excludeIds.isEmpty() && excludeIds.contains(target.idByDoc[doc]))) {
+                    continue;
+                }
+                entries[entryCount++] = ((long) doc << 32) | weight;
+            }
+        }
+        Arrays.sort(entries, 0, entryCount);
+
+        // 문서별 공통 기술 IDF 합
+        int[] touched = new int[entryCount];
+        float[] intersection = new float[entryCount];
+        int touchedCount = 0;
+        for (int i = 0; i < entryCount; i++) {
+            int doc = (int) (entries[i] >>> 32);
+            float weight = Float.intBitsToFloat((int) entries[i]);
+            if (touchedCount > 0 && touched[touchedCount - 1] == doc) {
+                intersection[touchedCount - 1] += weight;
+            } else {
+                touched[touchedCount] = doc;
+                intersection[touchedCount++] = weight;
+            }
+        }
+
+        // 후보 문서만 합집합 가중치 계산 후 상위 limit 개 유지 (최소 힙)
+        float[] scores = new float[touchedCount];
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(scores[a], scores[b]));
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            float docWeight = 0f;
+            for (int term : target.termsByDoc[doc]) {
+                docWeight += idf[term];
+            }
+            float union = queryWeight + docWeight - intersection[i];
+            scores[i] = union > 0f ? intersection[i] / union : 0f;
+            top.offer(i);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        Match[] result = new Match[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            int idx = top.poll();
+            result[i] = new Match(target.idByDoc[touched[idx]], scores[idx]);
+        }
+        return Arrays.asList(result);
+    }
+
+    public record Match(long id, double score) {
+    }
+
+    // 색인 본체 (write lock 안에서 변경, 재구성 중에는 잠금 없이 혼자 사용)
+    private static final class Model {
+        private final Terms terms = new Terms();
+        private final Side profiles = new Side();  // 문서 id = 사용자 id
+        private final Side studies = new Side();   // 문서 id = 스터디 id, owner = 작성자 id
+
+        void putProfile(Long userId, Collection<String> techs) {
+            release(profiles.put(userId, userId, false, toTerms(techs)));
+        }
+
+        void putStudy(Long studyId, Long authorId, String title, String category, String curriculum, String status) {
+            release(studies.put(studyId, authorId, STATUS_CLOSED.equals(status),
+                    toTerms(Arrays.asList(title, category, curriculum))));
+        }
+
+        void removeStudy(Long studyId) {
+            release(studies.remove(studyId));
+        }
+
+        // 문서의 기술 번호 (중복 제거, 정렬)
+        private int[] toTerms(Collection<String> texts) {
+            int[] ids = new int[8];
+            int size = 0;
+            for (String text : texts) {
+                for (String token : KoreanBigramTokenizer.tokenize(text)) {
+                    if (size == ids.length) {
+                        ids = Arrays.copyOf(ids, size * 2);
+                    }
+                    ids[size++] = terms.idOf(token);
+                }
+            }
+            return Arrays.stream(ids, 0, size).sorted().distinct().toArray();
+        }
+
+        // 빠진 문서의 기술 중 양쪽 어디에서도 쓰이지 않게 된 번호를 반납
+        private void release(int[] removedTerms) {
+            if (removedTerms == null) {
+                return;
+            }
+            for (int term : removedTerms) {
+                if (profiles.docFreq(term) == 0 && studies.docFreq(term) == 0) {
+                    terms.release(term);
+                }
+            }
+        }
+    }
+
+    // 기술 문자열 ↔ 번호 (반납된 번호는 다음 새 기술이 다시 씀)
+    // 반납된 번호의 posting 에 남은 항목은 모두 삭제 표시된 문서라 다시 써도 점수에 섞이지 않는다.
+    private static final class Terms {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private String[] tokens = new String[256];
+        private int[] free = new int[16];
+        private int freeCount;
+        private int next;
+
+        int idOf(String token) {
+            Integer id = ids.get(token);
+            if (id != null) {
+                return id;
+            }
+            int newId = freeCount > 0 ? free[--freeCount] : next++;
+            if (newId >= tokens.length) {
+                tokens = Arrays.copyOf(tokens, tokens.length * 2);
+            }
+            tokens[newId] = token;
+            ids.put(token, newId);
+            return newId;
+        }
+
+        void release(int id) {
+            String token = tokens[id];
+            if (token == null) {
+                return;
+            }
+            ids.remove(token);
+            tokens[id] = null;
+            if (freeCount == free.length) {
+                free = Arrays.copyOf(free, freeCount * 2);
+            }
+            free[freeCount++] = id;
+        }
+
+        int size() {
+            return ids.size();
+        }
+    }
+
+    // 한쪽(사용자 또는 스터디) 문서 집합
+    private static final class Side {
+        private final Map<Long, Integer> docById = new HashMap<>();
+        private long[] idByDoc = new long[1024];
+        private long[] ownerByDoc = new long[1024];
+        private int[][] termsByDoc = new int[1024][];
+        private BitSet deleted = new BitSet();
+        private BitSet closed = new BitSet();
+        private IntPostings[] postings = new IntPostings[256];  // 기술 번호별 문서 목록
+        private int[] docFreq = new int[256];                   // 기술 번호별 살아있는 문서 수
+        private int docCount;
+        private volatile float[] idfCache;                      // 변경 시 초기화, 조회 시 다시 계산
+
+        int live() {
+            return docById.size();
+        }
+
+        int[] terms(Long id) {
+            Integer doc = docById.get(id);
+            return doc != null ? termsByDoc[doc] : null;
+        }
+
+        Long owner(Long id) {
+            Integer doc = docById.get(id);
+            return doc != null ? ownerByDoc[doc] : null;
+        }
+
+        // 기술 번호별 IDF = log(1 + 전체 문서 수 / 해당 기술 문서 수)
+        float[] idf() {
+            float[] cached = idfCache;
+            if (cached != null) {
+                return cached;
+            }
+            int live = live();
+            float[] idf = new float[docFreq.length];
+            for (int term = 0; term < docFreq.length; term++) {
+                idf[term] = (float) Math.log(1.0 + (double) live / Math.max(1, docFreq[term]));
+            }
+            idfCache = idf;
+            return idf;
+        }
+
+        int docFreq(int term) {
+            return term < docFreq.length ? docFreq[term] : 0;
+        }
+
+        // 기존 문서는 삭제 표시 후 새로 추가 (기술이 없으면 삭제만), 기존 문서의 기술 번호 반환
+        int[] put(long id, long owner, boolean isClosed, int[] terms) {
+            int[] removed = remove(id);
+            idfCache = null;
+            if (terms.length == 0) {
+                return removed;
+            }
+            int doc = docCount++;
+            if (doc == idByDoc.length) {
+                idByDoc = Arrays.copyOf(idByDoc, doc * 2);
+                ownerByDoc = Arrays.copyOf(ownerByDoc, doc * 2);
+                termsByDoc = Arrays.copyOf(termsByDoc, doc * 2);
+            }
+            idByDoc[doc] = id;
+            ownerByDoc[doc] = owner;
+            termsByDoc[doc] = terms;
+            closed.set(doc, isClosed);
+            docById.put(id, doc);
+
+            for (int term : terms) {
+                if (term >= postings.length) {
+                    int length = Math.max(postings.length * 2, term + 1);
+                    postings = Arrays.copyOf(postings, length);
+                    docFreq = Arrays.copyOf(docFreq, length);
+                }
+                if (postings[term] == null) {
+                    postings[term] = new IntPostings();
+                }
+                postings[term].add(doc);
+                docFreq[term]++;
+            }
+            return removed;
+        }
+
+        void setClosed(long id, boolean isClosed) {
+            Integer doc = docById.get(id);
+            if (doc != null) {
+                closed.set(doc, isClosed);
+            }
+        }
+
+        // 삭제한 문서의 기술 번호 반환 (없던 문서면 null)
+        int[] remove(long id) {
+            Integer doc = docById.remove(id);
+            if (doc == null) {
+                return null;
+            }
+            int[] removed = termsByDoc[doc];
+            deleted.set(doc);
+            idfCache = null;
+            for (int term : removed) {
+                docFreq[term]--;
+            }
+
+            // 삭제 표시가 전체의 1/4 을 넘으면 압축
+            int deletedCount = deleted.cardinality();
+            if (deletedCount > 1000 && deletedCount > docCount / 4) {
+                compact();
+            }
+            return removed;
+        }
+
+        // 삭제된 문서 번호를 제거하고 posting 을 다시 만듦
+        private void compact() {
+            int size = Math.max(1024, docById.size());
+            long[] newIds = new long[size];
+            long[] newOwners = new long[size];
+            int[][] newTerms = new int[size][];
+            BitSet newClosed = new BitSet();
+            IntPostings[] newPostings = new IntPostings[postings.length];
+
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                newIds[next] = idByDoc[doc];
+                newOwners[next] = ownerByDoc[doc];
+                newTerms[next] = termsByDoc[doc];
+                newClosed.set(next, closed.get(doc));
+                docById.put(idByDoc[doc], next);
+                for (int term : termsByDoc[doc]) {
+                    if (newPostings[term] == null) {
+                        newPostings[term] = new IntPostings();
+                    }
+                    newPostings[term].add(next);
+                }
+                next++;
+            }
+
+            idByDoc = newIds;
+            ownerByDoc = newOwners;
+            termsByDoc = newTerms;
+            closed = newClosed;
+            postings = newPostings;
+            deleted = new BitSet();
+            docCount = next;
+        }
+    }
+
+    // 하나의 기술에 대한 문서 번호 목록
+    private static final class IntPostings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
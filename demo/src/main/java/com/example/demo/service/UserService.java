@@ -6,6 +6,7 @@ import com.example.demo.dto.LoginResponseDTO;
 import com.example.demo.dto.UserRequestDTO;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PrincipalCache;
 import com.example.demo.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,6 +20,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PrincipalCache principalCache;
+    private final EntityCacheService entityCacheService;
 
     // 회원가입 함수
     public void signUp(UserRequestDTO userRequestDTO) {
@@ -61,11 +64,18 @@ public class UserService {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 해시 설정(cost/형식)이 바뀐 뒤 첫 로그인이면 현재 설정으로 다시 해시 (아래 refreshToken 저장과 같은 UPDATE)
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
+        }
+
         String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail());      //accessToken(API 호출용) 30분
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());    //refreshToken(AccessToken 재발급용) 7일
 
         user.setRefreshToken(refreshToken);
         userRepository.save(user);  // RefreshToken을 DB에 저장
+        principalCache.evict(user.getEmail());  // 캐시된 인증 정보 갱신
+        entityCacheService.evictUser(user.getId());
 
         return new LoginResponseDTO(accessToken,refreshToken,user.getName());  // 토큰 2개를 클라이언트에게 반환(로그인 성공했을때)
 
@@ -0,0 +1,24 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+
+/**
+ * 만료 시간이 있는 인증 상태 저장소 (비밀번호 재설정 코드, 인증 완료 표시, 시도 횟수)
+ * 구현: InMemoryVerificationStore (기본), JdbcVerificationStore (password-reset.store-type=jdbc, 다중 인스턴스용)
+ */
+public interface VerificationStore {
+
+    // 값 저장 (저장하지 못하면 false - 메모리 구현은 가득 차면 오래된 항목을 내보내고 저장)
+    boolean put(String key, String value, Duration ttl);
+
+    // 만료되지 않은 값 조회 (없으면 null)
+    String get(String key);
+
+    void remove(String key);
+
+    // 카운터 1 증가 후 현재 값 반환 (처음이거나 만료됐으면 1부터, ttl 은 처음 생성 시점 기준)
+    int increment(String key, Duration ttl);
+
+    // 만료된 항목 정리
+    void evictExpired();
+}
@@ -0,0 +1,37 @@
+package com.example.demo.util;
+
+import com.example.demo.dto.CommentResponseDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 평면 댓글 목록 → 계층 구조 (id 인덱스로 O(n), 깊이 제한 없음)
+public final class CommentTreeBuilder {
+
+    private CommentTreeBuilder() {
+    }
+
+    // 입력 순서가 각 레벨의 정렬 순서가 됨
+    // 부모가 목록에 없는 답글(삭제된 부모)은 제외
+    public static List<CommentResponseDTO> build(List<CommentResponseDTO> comments) {
+        Map<Long, CommentResponseDTO> byId = new HashMap<>(comments.size() * 2);
+        for (CommentResponseDTO comment : comments) {
+            byId.put(comment.getId(), comment);
+        }
+
+        List<CommentResponseDTO> roots = new ArrayList<>();
+        for (CommentResponseDTO comment : comments) {
+            if (comment.getParentId() == null) {
+                roots.add(comment);
+            } else {
+                CommentResponseDTO parent = byId.get(comment.getParentId());
+                if (parent != null) {
+                    parent.getReplies().add(comment);
+                }
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내보내기 행 단위 출력 (ndjson | csv)
+ * 한 행씩 바로 출력 스트림에 쓰므로 메모리에 쌓이지 않는다.
+ * 값은 null / 숫자 / Boolean 외에는 toString() 으로 출력 (LocalDateTime 은 ISO-8601)
+ */
+public abstract class ExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    protected final String[] columns;
+
+    protected ExportWriter(String[] columns) {
+        this.columns = columns;
+    }
+
+    // 형식별 Content-Type (지원하지 않는 형식이면 예외)
+    public static String contentType(String format) {
+        return switch (format) {
+            case "ndjson" -> "application/x-ndjson";
+            case "csv" -> "text/csv;charset=UTF-8";
+            default -> throw new RuntimeException("지원하지 않는 내보내기 형식입니다. (ndjson, csv)");
+        };
+    }
+
+    public static ExportWriter of(String format, OutputStream out, String... columns) throws IOException {
+        contentType(format);
+        return "csv".equals(format) ? new Csv(out, columns) : new NdJson(out, columns);
+    }
+
+    // values 순서는 columns 와 같아야 함
+    public abstract void row(Object... values) throws IOException;
+
+    // 버퍼에 쌓인 행을 클라이언트로 전송
+    public abstract void flush() throws IOException;
+
+    // 한 줄에 JSON 객체 하나
+    private static final class NdJson extends ExportWriter {
+
+        private final JsonGenerator generator;
+
+        private NdJson(OutputStream out, String[] columns) throws IOException {
+            super(columns);
+            this.generator = JSON_FACTORY.createGenerator(out);
+        }
+
+        @Override
+        public void row(Object... values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                generator.writeFieldName(columns[i]);
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long l) {
+                    generator.writeNumber(l);
+                } else if (value instanceof Integer n) {
+                    generator.writeNumber(n);
+                } else if (value instanceof Boolean b) {
+                    generator.writeBoolean(b);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    // 첫 줄 헤더, 값에 , " 줄바꿈이 있으면 따옴표로 감쌈 (RFC 4180)
+    private static final class Csv extends ExportWriter {
+
+        private final Writer writer;
+
+        private Csv(OutputStream out, String[] columns) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            row((Object[]) columns);
+        }
+
+        @Override
+        public void row(Object... values) throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.util;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -25,9 +27,15 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    // 서명키가 고정이므로 파서는 한 번만 만들어 재사용 (thread-safe)
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     // accessToken 생성
@@ -42,27 +50,30 @@ public class JwtTokenProvider {
 
     // 토큰 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseAndValidate(token) != null;
     }
 
     // 토큰 파싱 (사용자 이메일 꺼내기)
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
+    // 토큰 검증 + 클레임 추출을 한 번에 (유효하지 않으면 null)
+    public TokenClaims parseAndValidate(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return new TokenClaims(
+                    claims.getSubject(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // 토큰 생성 함수 (공통 로직)
     private String generateToken(String email, long expiration) {
         return Jwts.builder()
@@ -0,0 +1,70 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * 단어를 먼저 문자 종류(한글 / 그 외) 경계에서 나눈 뒤
+ * - 한글 부분: 2글자 단위 bigram (한 글자는 그대로)
+ *   예) "자바스터디" → 자바, 바스, 스터, 터디
+ * - 그 외(영문/숫자) 부분: 소문자 단어 그대로
+ *   예) "Java스터디" → java, 스터, 터디 / "Spring을" → spring (영문 뒤에 붙은 한 글자 조사는 버림)
+ * 조사/어미가 붙어도 bigram 이 겹치므로 형태소 분석 없이 부분 일치 검색이 된다.
+ */
+public final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(lower.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // 한글 / 그 외 문자가 바뀌는 위치에서 나눠 각각 처리
+    private static void addWord(String word, List<String> tokens) {
+        int start = 0;
+        boolean hangul = isHangul(word.charAt(0));
+        for (int i = 1; i <= word.length(); i++) {
+            if (i < word.length() && isHangul(word.charAt(i)) == hangul) {
+                continue;
+            }
+            String part = word.substring(start, i);
+            if (!hangul) {
+                tokens.add(part);
+            } else if (part.length() > 1) {
+                for (int j = 0; j + 2 <= part.length(); j++) {
+                    tokens.add(part.substring(j, j + 2));
+                }
+            } else if (start == 0) {
+                // 한 글자 단어 (영문 뒤에 붙은 한 글자는 조사로 보고 버림: "React로")
+                tokens.add(part);
+            }
+            if (i < word.length()) {
+                start = i;
+                hangul = !hangul;
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
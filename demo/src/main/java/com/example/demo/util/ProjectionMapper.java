@@ -0,0 +1,85 @@
+package com.example.demo.util;
+
+import com.example.demo.dto.CommentResponseDTO;
+import com.example.demo.dto.ParticipationResponseDTO;
+import com.example.demo.dto.StudyResponseDTO;
+import com.example.demo.dto.StudySummaryDTO;
+import com.example.demo.repository.CommentView;
+import com.example.demo.repository.ParticipationView;
+import com.example.demo.repository.StudySummaryView;
+import com.example.demo.repository.StudyView;
+
+// 리포지토리 프로젝션 → 응답 DTO 변환 (목록 조회 공통)
+public final class ProjectionMapper {
+
+    private ProjectionMapper() {
+    }
+
+    public static StudyResponseDTO toStudyResponse(StudyView v) {
+        return StudyResponseDTO.builder()
+                .id(v.getId())
+                .title(v.getTitle())
+                .description(v.getDescription())
+                .status(v.getStatus())
+                .category(v.getCategory())
+                .schedule(v.getSchedule())
+                .location(v.getLocation())
+                .recruitCount(v.getRecruitCount())
+                .curriculum(v.getCurriculum())
+                .views(v.getViews() != null ? v.getViews() : 0)
+                .isTemp(v.getIsTemp() != null ? v.getIsTemp() : false)
+                .createdAt(v.getCreatedAt())
+                .updatedAt(v.getUpdatedAt())
+                .author(v.getAuthor())
+                .build();
+    }
+
+    public static StudySummaryDTO toStudySummary(StudySummaryView v) {
+        return StudySummaryDTO.builder()
+                .id(v.getId())
+                .title(v.getTitle())
+                .status(v.getStatus())
+                .category(v.getCategory())
+                .schedule(v.getSchedule())
+                .location(v.getLocation())
+                .recruitCount(v.getRecruitCount())
+                .views(v.getViews() != null ? v.getViews() : 0)
+                .commentCount(toInt(v.getCommentCount()))
+                .applicantCount(toInt(v.getApplicantCount()))
+                .approvedCount(toInt(v.getApprovedCount()))
+                .createdAt(v.getCreatedAt())
+                .updatedAt(v.getUpdatedAt())
+                .author(v.getAuthor())
+                .build();
+    }
+
+    public static ParticipationResponseDTO toParticipationResponse(ParticipationView v) {
+        return ParticipationResponseDTO.builder()
+                .id(v.getId())
+                .studyId(v.getStudyId())
+                .userId(v.getUserId())
+                .status(v.getStatus())
+                .message(v.getMessage())
+                .createdAt(v.getCreatedAt())
+                .updatedAt(v.getUpdatedAt())
+                .userName(v.getUserName())
+                .studyTitle(v.getStudyTitle())
+                .build();
+    }
+
+    public static CommentResponseDTO toCommentResponse(CommentView v) {
+        return CommentResponseDTO.builder()
+                .id(v.getId())
+                .studyId(v.getStudyId())
+                .parentId(v.getParentId())
+                .content(v.getContent())
+                .author(v.getAuthor())
+                .createdAt(v.getCreatedAt())
+                .updatedAt(v.getUpdatedAt())
+                .build();
+    }
+
+    private static int toInt(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 검증이 끝난 JWT 에서 꺼낸 값 (subject = 이메일)
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+    private final String subject;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+}
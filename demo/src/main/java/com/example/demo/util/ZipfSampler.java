@@ -0,0 +1,42 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 표본 추출 (1 ~ n, 1 이 가장 자주 나옴)
+ * 누적 분포를 미리 계산해 두고 이진 탐색 (n = 100만이면 8MB)
+ * 같은 Random(seed) 를 쓰면 항상 같은 순서로 나온다.
+ */
+public final class ZipfSampler {
+
+    private final double[] cdf;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n 은 1 이상이어야 합니다.");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    // 순위 (1 ~ n)
+    public int sample(Random random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        return Math.min(idx, cdf.length - 1) + 1;
+    }
+
+    public int size() {
+        return cdf.length;
+    }
+}
@@ -0,0 +1,7 @@
+-- =========================
+-- 참여 신청 Idempotency-Key
+-- =========================
+
+-- 같은 키로 다시 보낸 신청(재시도/더블클릭)은 오류 대신 기존 신청을 돌려주기 위해 저장
+-- 중복 신청 자체는 uk_participation_study_user 가 막으므로 별도 인덱스 없음
+ALTER TABLE participation ADD COLUMN idempotency_key VARCHAR(100);
@@ -0,0 +1,69 @@
+-- =========================
+-- 기준 스키마 (Flyway 도입 전 운영 DB 그대로)
+-- 이미 운영 중인 DB 는 baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용된다.
+-- 이후 변경은 모두 V2 부터의 마이그레이션으로 (기존 데이터 보정 포함)
+-- =========================
+
+CREATE TABLE user (
+    id            BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    email         VARCHAR(255),
+    password      VARCHAR(255),
+    role          VARCHAR(255),
+    name          VARCHAR(255),
+    refresh_token VARCHAR(500)
+);
+
+CREATE TABLE profile (
+    id         BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    address    VARCHAR(255),
+    age        INT,
+    bio        TEXT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    CONSTRAINT uk_profile_user UNIQUE (user_id)
+);
+
+CREATE TABLE profile_tech_stack (
+    id         BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    profile_id BIGINT       NOT NULL,
+    tech       VARCHAR(100) NOT NULL,
+    created_at DATETIME(6)
+);
+
+CREATE TABLE study (
+    id            BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    author_id     BIGINT       NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    description   TEXT         NOT NULL,
+    status        VARCHAR(255),
+    category      VARCHAR(255),
+    schedule      VARCHAR(255),
+    location      VARCHAR(255),
+    recruit_count INT,
+    curriculum    VARCHAR(255),
+    views         INT          DEFAULT 0,
+    is_temp       BOOLEAN,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6)
+);
+
+CREATE TABLE comment (
+    id         BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    study_id   BIGINT NOT NULL,
+    author_id  BIGINT NOT NULL,
+    parent_id  BIGINT,
+    content    TEXT   NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6)
+);
+
+CREATE TABLE participation (
+    id         INT         NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    study_id   INT         NOT NULL,
+    user_id    INT         NOT NULL,
+    status     VARCHAR(20) NOT NULL,
+    message    TEXT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6)
+);
@@ -0,0 +1,11 @@
+-- =========================
+-- 스터디 피드 (GET /api/studies/feed) 인덱스
+-- =========================
+
+-- 필터 없는 피드: WHERE is_temp = false ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_study_feed ON study (is_temp, created_at, id);
+
+-- 카테고리 / 모집상태 / 장소 필터 피드
+CREATE INDEX idx_study_category_feed ON study (category, is_temp, created_at, id);
+CREATE INDEX idx_study_status_feed ON study (status, is_temp, created_at, id);
+CREATE INDEX idx_study_location_feed ON study (location, is_temp, created_at, id);
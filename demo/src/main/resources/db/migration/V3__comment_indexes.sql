@@ -0,0 +1,9 @@
+-- =========================
+-- 댓글 페이지 조회 (GET /api/studies/{studyId}/comments/page, /{commentId}/replies) 인덱스
+-- =========================
+
+-- 원댓글 페이지: WHERE study_id = ? AND parent_id IS NULL AND id > ? ORDER BY id
+CREATE INDEX idx_comment_study_parent ON comment (study_id, parent_id, id);
+
+-- 답글 페이지 / 답글 수: WHERE parent_id = ? AND id > ? ORDER BY id
+CREATE INDEX idx_comment_parent ON comment (parent_id, id);
@@ -0,0 +1,13 @@
+-- =========================
+-- 비밀번호 재설정 인증 상태 (password-reset.store-type=jdbc 일 때 사용)
+-- =========================
+
+CREATE TABLE verification_store (
+    store_key   VARCHAR(255) NOT NULL PRIMARY KEY,
+    store_value VARCHAR(255),
+    counter     INT          NOT NULL DEFAULT 0,
+    expires_at  BIGINT       NOT NULL
+);
+
+-- 만료 항목 정리: WHERE expires_at <= ?
+CREATE INDEX idx_verification_store_expires ON verification_store (expires_at);
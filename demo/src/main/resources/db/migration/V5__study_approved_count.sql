@@ -0,0 +1,10 @@
+-- =========================
+-- 스터디 모집 인원 (approved_count)
+-- =========================
+
+ALTER TABLE study ADD COLUMN approved_count INT NOT NULL DEFAULT 0;
+
+-- 기존 승인 건수로 초기화
+UPDATE study s
+SET approved_count = (SELECT COUNT(*) FROM participation p
+                      WHERE p.study_id = s.id AND p.status = 'APPROVED');
@@ -0,0 +1,7 @@
+-- =========================
+-- 이메일 유일 (User.email 은 @NaturalId: 2차 캐시의 이메일 → id 조회가 한 건을 전제)
+-- 회원가입에서 중복 이메일을 막아 왔으므로 중복 행은 없어야 함
+-- (있으면 이 마이그레이션이 실패하니, 계정을 정리한 뒤 다시 기동할 것 - 자동 삭제하지 않음)
+-- =========================
+
+CREATE UNIQUE INDEX uk_user_email ON user (email);
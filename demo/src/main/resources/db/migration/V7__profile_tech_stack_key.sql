@@ -0,0 +1,20 @@
+-- =========================
+-- profile_tech_stack 복합키 (profile_id, tech)
+-- 생성 id 를 없애 기술 스택 INSERT 를 JDBC batch 로 보낼 수 있게 함
+-- =========================
+
+-- 같은 프로필의 중복 기술 제거 (먼저 등록된 것만 남김)
+-- MySQL 기본 collation 에서 키 비교는 대소문자를 구분하지 않으므로 'Java' / 'java' 도 중복으로 봄
+-- (MySQL 은 삭제 대상 테이블을 서브쿼리에서 바로 읽을 수 없어 파생 테이블로 감쌈)
+DELETE FROM profile_tech_stack
+WHERE id IN (SELECT id FROM (
+    SELECT t1.id FROM profile_tech_stack t1
+    JOIN profile_tech_stack t2
+      ON t1.profile_id = t2.profile_id AND LOWER(t1.tech) = LOWER(t2.tech) AND t1.id > t2.id
+) dup);
+
+-- AUTO_INCREMENT 컬럼은 기본키에서 뺄 수 없으므로 먼저 일반 컬럼으로
+ALTER TABLE profile_tech_stack MODIFY id BIGINT NOT NULL;
+ALTER TABLE profile_tech_stack DROP PRIMARY KEY;
+ALTER TABLE profile_tech_stack DROP COLUMN id;
+ALTER TABLE profile_tech_stack ADD PRIMARY KEY (profile_id, tech);
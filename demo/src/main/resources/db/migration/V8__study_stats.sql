@@ -0,0 +1,21 @@
+-- =========================
+-- 스터디별 집계 (피드의 댓글 수 / 신청자 수)
+-- =========================
+
+CREATE TABLE study_stats (
+    study_id        BIGINT NOT NULL PRIMARY KEY,
+    comment_count   INT    NOT NULL DEFAULT 0,
+    applicant_count INT    NOT NULL DEFAULT 0,
+    updated_at      DATETIME(6)
+);
+
+-- 기존 데이터로 초기화 (이후에는 증감분 갱신 + StudyStatsReconciler 보정)
+INSERT INTO study_stats (study_id, comment_count, applicant_count, updated_at)
+SELECT s.id,
+       (SELECT COUNT(*) FROM comment c WHERE c.study_id = s.id),
+       (SELECT COUNT(*) FROM participation p WHERE p.study_id = s.id),
+       CURRENT_TIMESTAMP
+FROM study s;
+
+-- 상태별 조회 / 집계 보정의 COUNT 서브쿼리
+CREATE INDEX idx_participation_study_status ON participation (study_id, status);
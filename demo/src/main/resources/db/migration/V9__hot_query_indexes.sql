@@ -0,0 +1,41 @@
+-- =========================
+-- 리포지토리 쿼리별 인덱스 (RepositoryQueryPlanTest 가 EXPLAIN 으로 확인)
+-- =========================
+
+-- 같은 스터디에 같은 사용자의 신청이 여러 건이면 한 건만 남김
+-- 승인 > 대기 > 거절 순으로 남기고, 상태가 같으면 먼저 신청한 것
+-- (MySQL 은 삭제 대상 테이블을 서브쿼리에서 바로 읽을 수 없어 파생 테이블로 감쌈)
+DELETE FROM participation
+WHERE id IN (SELECT id FROM (
+    SELECT p1.id FROM participation p1
+    JOIN participation p2
+      ON p1.study_id = p2.study_id AND p1.user_id = p2.user_id AND p1.id <> p2.id
+    WHERE (CASE p2.status WHEN 'APPROVED' THEN 2 WHEN 'PENDING' THEN 1 ELSE 0 END)
+              > (CASE p1.status WHEN 'APPROVED' THEN 2 WHEN 'PENDING' THEN 1 ELSE 0 END)
+       OR ((CASE p2.status WHEN 'APPROVED' THEN 2 WHEN 'PENDING' THEN 1 ELSE 0 END)
+              = (CASE p1.status WHEN 'APPROVED' THEN 2 WHEN 'PENDING' THEN 1 ELSE 0 END)
+           AND p2.id < p1.id)
+) dup);
+
+-- 지운 중복 신청만큼 집계 보정 (V5 approved_count, V8 study_stats 는 중복까지 세어 초기화됨)
+UPDATE study s
+SET approved_count = (SELECT COUNT(*) FROM participation p
+                      WHERE p.study_id = s.id AND p.status = 'APPROVED');
+
+UPDATE study_stats
+SET applicant_count = (SELECT COUNT(*) FROM participation p WHERE p.study_id = study_stats.study_id),
+    updated_at = CURRENT_TIMESTAMP;
+
+-- 중복 신청 방지 + existsByStudyIdAndUserId / findByStudyIdAndUserId
+-- study_id 로 시작하므로 스터디별 신청 목록, 신청자 id 목록(커버링)도 이 인덱스 사용
+CREATE UNIQUE INDEX uk_participation_study_user ON participation (study_id, user_id);
+
+-- 내 참여 신청 목록: WHERE user_id = ? ORDER BY created_at DESC
+CREATE INDEX idx_participation_user ON participation (user_id, created_at);
+
+-- 내가 작성한 글: WHERE author_id = ? AND is_temp = false ORDER BY created_at DESC
+-- 최근 임시저장 글: WHERE author_id = ? AND is_temp = true ORDER BY created_at DESC LIMIT 1
+CREATE INDEX idx_study_author ON study (author_id, is_temp, created_at);
+
+-- 회원가입 이름 중복 확인 / 공개 프로필 조회: WHERE name = ?
+CREATE INDEX idx_user_name ON user (name);
@@ -0,0 +1,409 @@
+package com.example.demo.controller;
+
+import com.example.demo.security.PrincipalCache;
+import com.example.demo.service.StudySearchIndex;
+import com.example.demo.service.TechMatchIndex;
+import com.example.demo.service.VerificationStore;
+import com.example.demo.support.QueryCountConfig;
+import com.example.demo.util.JwtTokenProvider;
+import jakarta.servlet.http.Cookie;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 고정 (N+1, 불필요한 재조회 방지)
+ * 2차 캐시/쿼리 캐시는 끄고 캐시 미스 기준 횟수를 측정한다.
+ * 인증 주체(PrincipalCache)는 미리 로드해 두어 필터의 조회는 세지 않는다.
+ * 서비스 로직을 바꿔 횟수가 달라지면 여기 기대값도 함께 수정할 것.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCountConfig.class)
+class EndpointQueryCountTest {
+
+    private static final String OWNER = "owner@example.com";
+    private static final String MEMBER = "member@example.com";
+    private static final String APPLICANT = "applicant@example.com";
+    private static final String ADMIN = "admin@example.com";
+    private static final String PASSWORD = "password1234";
+
+    private static String encodedPassword;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private StudySearchIndex studySearchIndex;
+
+    @Autowired
+    private TechMatchIndex techMatchIndex;
+
+    @Autowired
+    private VerificationStore verificationStore;
+
+    private Long ownerId;
+    private Long studyId;
+    private Long tempStudyId;
+    private Long commentId;
+    private Long replyId;
+    private Long participationId;
+
+    @BeforeEach
+    void setUp() {
+        if (encodedPassword == null) {
+            encodedPassword = passwordEncoder.encode(PASSWORD);
+        }
+        for (String table : new String[]{"study_stats", "participation", "comment", "profile_tech_stack", "profile", "study", "user"}) {
+            jdbc.update("DELETE FROM " + table);
+        }
+        for (String email : new String[]{OWNER, MEMBER, APPLICANT, ADMIN}) {
+            principalCache.evict(email);
+        }
+
+        ownerId = insertUser(OWNER, "방장", "ROLE_USER");
+        Long memberId = insertUser(MEMBER, "멤버", "ROLE_USER");
+        Long applicantId = insertUser(APPLICANT, "지원자", "ROLE_USER");
+        insertUser(ADMIN, "관리자", "ROLE_ADMIN");
+
+        jdbc.update("INSERT INTO profile (user_id, address, age, bio, created_at, updated_at) "
+                + "VALUES (?, '서울', 30, '소개', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", ownerId);
+        Long profileId = lastId("profile");
+        jdbc.update("INSERT INTO profile_tech_stack (profile_id, tech, created_at) VALUES (?, 'Java', CURRENT_TIMESTAMP)", profileId);
+        jdbc.update("INSERT INTO profile_tech_stack (profile_id, tech, created_at) VALUES (?, 'Kotlin', CURRENT_TIMESTAMP)", profileId);
+
+        // 추천용: 멤버/지원자는 '자바' 기술 스택
+        for (Long userId : new Long[]{memberId, applicantId}) {
+            jdbc.update("INSERT INTO profile (user_id, created_at, updated_at) VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", userId);
+            jdbc.update("INSERT INTO profile_tech_stack (profile_id, tech, created_at) VALUES (?, '자바', CURRENT_TIMESTAMP)", lastId("profile"));
+        }
+
+        studyId = insertStudy("자바 스터디", false);
+        tempStudyId = insertStudy("임시 스터디", true);
+
+        jdbc.update("INSERT INTO comment (study_id, author_id, parent_id, content, created_at, updated_at) "
+                + "VALUES (?, ?, NULL, '질문 있습니다', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", studyId, memberId);
+        commentId = lastId("comment");
+        jdbc.update("INSERT INTO comment (study_id, author_id, parent_id, content, created_at, updated_at) "
+                + "VALUES (?, ?, ?, '답변입니다', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", studyId, ownerId, commentId);
+        replyId = lastId("comment");
+
+        jdbc.update("INSERT INTO participation (study_id, user_id, status, message, created_at, updated_at) "
+                + "VALUES (?, ?, 'PENDING', '참여하고 싶어요', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", studyId, memberId);
+        participationId = lastId("participation");
+
+        studySearchIndex.rebuild();
+        techMatchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.clear();
+    }
+
+    // ========= 스터디 =========
+
+    @Test
+    void 스터디_목록은_쿼리_1회() throws Exception {
+        assertQueries(perform(get("/api/studies")), 1, 0, 0, 0);
+    }
+
+    @Test
+    void 스터디_피드는_쿼리_1회() throws Exception {
+        assertQueries(perform(get("/api/studies/feed")), 1, 0, 0, 0);
+    }
+
+    @Test
+    void 스터디_검색은_쿼리_1회() throws Exception {
+        assertQueries(perform(get("/api/studies/search").param("q", "자바")), 1, 0, 0, 0);
+    }
+
+    @Test
+    void 스터디_상세는_스터디와_작성자_조회() throws Exception {
+        assertQueries(perform(get("/api/studies/" + studyId)), 2, 0, 0, 0);
+    }
+
+    @Test
+    void 내_게시글은_사용자와_목록_조회() throws Exception {
+        assertQueries(perform(auth(get("/api/studies/my-posts"), OWNER)), 2, 0, 0, 0);
+        assertQueries(perform(auth(get("/api/studies/my-studies"), OWNER)), 2, 0, 0, 0);
+    }
+
+    @Test
+    void 최신_임시저장은_사용자와_임시글_조회() throws Exception {
+        assertQueries(perform(auth(get("/api/studies/temp/latest"), OWNER)), 2, 0, 0, 0);
+    }
+
+    @Test
+    void 스터디_생성은_사용자_조회와_INSERT() throws Exception {
+        assertQueries(perform(auth(post("/api/studies"), OWNER).contentType(MediaType.APPLICATION_JSON)
+                .content(studyJson("새 스터디"))), 1, 1, 0, 0);
+        assertQueries(perform(auth(post("/api/studies/temp"), OWNER).contentType(MediaType.APPLICATION_JSON)
+                .content(studyJson("새 임시글"))), 1, 1, 0, 0);
+    }
+
+    @Test
+    void 스터디_수정은_조회_2회와_UPDATE() throws Exception {
+        assertQueries(perform(auth(put("/api/studies/" + studyId), OWNER).contentType(MediaType.APPLICATION_JSON)
+                .content(studyJson("자바 스터디 (수정)"))), 2, 0, 1, 0);
+    }
+
+    @Test
+    void 스터디_삭제는_조회_2회와_스터디_집계_DELETE() throws Exception {
+        assertQueries(perform(auth(delete("/api/studies/" + tempStudyId), OWNER)), 2, 0, 0, 2);
+    }
+
+    // ========= 댓글 =========
+
+    @Test
+    void 댓글_목록은_쿼리_1회() throws Exception {
+        assertQueries(perform(get("/api/studies/" + studyId + "/comments")), 1, 0, 0, 0);
+    }
+
+    @Test
+    void 댓글_페이지는_목록과_답글수_조회() throws Exception {
+        assertQueries(perform(get("/api/studies/" + studyId + "/comments/page")), 2, 0, 0, 0);
+    }
+
+    @Test
+    void 답글_페이지는_부모_목록_답글수_조회() throws Exception {
+        assertQueries(perform(get("/api/studies/" + studyId + "/comments/" + commentId + "/replies")), 3, 0, 0, 0);
+    }
+
+    @Test
+    void 댓글_작성은_사용자_조회와_INSERT_집계_UPSERT() throws Exception {
+        // 집계는 INSERT ... ON DUPLICATE KEY UPDATE 한 문장 (INSERT 로 집계됨)
+        assertQueries(perform(auth(post("/api/studies/" + studyId + "/comments"), MEMBER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"새 댓글\"}")), 1, 2, 0, 0);
+    }
+
+    @Test
+    void 댓글_수정은_조회_2회와_UPDATE() throws Exception {
+        assertQueries(perform(auth(put("/api/studies/" + studyId + "/comments/" + commentId), MEMBER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"수정된 질문\"}")), 2, 0, 1, 0);
+    }
+
+    @Test
+    void 댓글_삭제는_조회_3회와_DELETE_집계_UPSERT() throws Exception {
+        assertQueries(perform(auth(delete("/api/studies/" + studyId + "/comments/" + replyId), OWNER)), 3, 1, 0, 1);
+    }
+
+    // ========= 참여 신청 =========
+
+    @Test
+    void 참여_신청은_조회_3회와_INSERT() throws Exception {
+        assertQueries(perform(auth(post("/api/studies/" + studyId + "/participations"), APPLICANT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"message\":\"참여 신청합니다\"}")), 3, 2, 0, 0);
+    }
+
+    @Test
+    void 같은_Idempotency_Key_재전송은_INSERT_1회로_기존_신청_반환() throws Exception {
+        MockHttpServletRequestBuilder request = auth(post("/api/studies/" + studyId + "/participations"), APPLICANT)
+                .header("Idempotency-Key", "apply-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"message\":\"참여 신청합니다\"}");
+        assertQueries(perform(request), 3, 2, 0, 0);
+        assertQueries(perform(request), 3, 1, 0, 0);
+    }
+
+    @Test
+    void 스터디_참여_신청_목록은_조회_3회() throws Exception {
+        assertQueries(perform(auth(get("/api/studies/" + studyId + "/participations"), OWNER)), 3, 0, 0, 0);
+    }
+
+    @Test
+    void 내_참여_신청_목록은_조회_2회() throws Exception {
+        assertQueries(perform(auth(get("/api/participations/my-requests"), MEMBER)), 2, 0, 0, 0);
+    }
+
+    @Test
+    void 참여_승인은_조회_5회와_UPDATE_2회() throws Exception {
+        // 신청/스터디/작성자/신청자 조회 + 신청 상태 UPDATE + 모집 인원 UPDATE + 반영 후 모집 상태 조회
+        assertQueries(perform(auth(put("/api/studies/" + studyId + "/participations/" + participationId), OWNER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"APPROVED\"}")), 5, 0, 2, 0);
+    }
+
+    @Test
+    void 참여_일괄_거절은_건수와_무관하게_조회_3회와_UPDATE_2회() throws Exception {
+        assertQueries(perform(auth(put("/api/studies/" + studyId + "/participations"), OWNER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"participationIds\":[" + participationId + ", 999999],\"status\":\"REJECTED\"}")), 3, 0, 2, 0);
+    }
+
+    @Test
+    void 참여_취소는_조회_2회와_DELETE_집계_UPSERT() throws Exception {
+        assertQueries(perform(auth(delete("/api/studies/" + studyId + "/participations/" + participationId), MEMBER)),
+                2, 1, 0, 1);
+    }
+
+    // ========= 프로필 =========
+
+    @Test
+    void 내_프로필은_사용자_프로필_기술스택_조회() throws Exception {
+        assertQueries(perform(auth(get("/api/users/profile"), OWNER)), 3, 0, 0, 0);
+    }
+
+    @Test
+    void 공개_프로필은_사용자_프로필_기술스택_조회() throws Exception {
+        assertQueries(perform(get("/api/users/profile/방장")), 3, 0, 0, 0);
+    }
+
+    @Test
+    void 프로필_수정() throws Exception {
+        // 사용자/프로필/기존 기술스택 조회 → 빠진 기술 DELETE 1회 + 추가 기술 batch INSERT 1회 (응답은 재조회 없음)
+        assertQueries(perform(auth(put("/api/users/profile"), OWNER).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"bio\":\"새 소개\",\"techStack\":[\"Java\",\"Spring\",\"Docker\"]}")), 3, 1, 1, 1);
+    }
+
+    // ========= 추천 =========
+
+    @Test
+    void 스터디_추천은_사용자와_요약_조회_2회() throws Exception {
+        // 점수 계산은 메모리 인덱스, DB 는 사용자 + 추천 스터디 요약(IN) 조회뿐
+        assertQueries(perform(auth(get("/api/recommendations/studies"), MEMBER)), 2, 0, 0, 0);
+    }
+
+    @Test
+    void 회원_추천은_스터디_사용자_신청자_추천회원_조회_4회() throws Exception {
+        assertQueries(perform(auth(get("/api/studies/" + studyId + "/recommended-members"), OWNER)), 4, 0, 0, 0);
+    }
+
+    // ========= 회원 / 인증 =========
+
+    @Test
+    void 회원가입은_중복확인과_INSERT() throws Exception {
+        assertQueries(perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"new@example.com\",\"password\":\"pw12345678\","
+                        + "\"passwordConfirm\":\"pw12345678\",\"name\":\"신규\"}")), 1, 1, 0, 0);
+    }
+
+    @Test
+    void 로그인은_사용자_조회와_리프레시토큰_UPDATE() throws Exception {
+        assertQueries(perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + OWNER + "\",\"password\":\"" + PASSWORD + "\"}")), 1, 0, 1, 0);
+    }
+
+    @Test
+    void 로그아웃은_사용자_조회와_리프레시토큰_UPDATE() throws Exception {
+        assertQueries(perform(auth(post("/api/auth/logout"), OWNER)), 1, 0, 1, 0);
+    }
+
+    @Test
+    void 토큰_재발급은_사용자_조회_1회() throws Exception {
+        String refreshToken = jwtTokenProvider.generateRefreshToken(OWNER);
+        jdbc.update("UPDATE user SET refresh_token = ? WHERE id = ?", refreshToken, ownerId);
+
+        assertQueries(perform(post("/api/auth/refresh").cookie(new Cookie("refreshToken", refreshToken))), 1, 0, 0, 0);
+    }
+
+    @Test
+    void 비밀번호_재설정_흐름() throws Exception {
+        assertQueries(perform(post("/api/auth/password-reset/request").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + OWNER + "\"}")), 1, 0, 0, 0);
+
+        // 인증 상태는 VerificationStore(메모리)만 사용
+        verificationStore.put("reset-code:" + OWNER, "123456", Duration.ofMinutes(10));
+        assertQueries(perform(post("/api/auth/password-reset/verify").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + OWNER + "\",\"code\":\"123456\"}")), 0, 0, 0, 0);
+
+        assertQueries(perform(post("/api/auth/password-reset/reset").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + OWNER + "\",\"newPassword\":\"newPassword1234\"}")), 1, 0, 1, 0);
+    }
+
+    // ========= 기타 =========
+
+    @Test
+    void 인증_확인과_캐시_통계는_DB_조회_없음() throws Exception {
+        assertQueries(perform(auth(get("/api/private/hello"), OWNER)), 0, 0, 0, 0);
+        assertQueries(perform(auth(get("/api/admin/cache-stats"), ADMIN)), 0, 0, 0, 0);
+    }
+
+    // ========= 헬퍼 =========
+
+    // 요청 1회 동안 실행된 SQL 수
+    private QueryCount perform(MockHttpServletRequestBuilder request) throws Exception {
+        QueryCountHolder.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return QueryCountHolder.getGrandTotal();
+    }
+
+    private static void assertQueries(QueryCount count, int select, int insert, int update, int delete) {
+        assertThat(count.getSelect()).as("SELECT").isEqualTo(select);
+        assertThat(count.getInsert()).as("INSERT").isEqualTo(insert);
+        assertThat(count.getUpdate()).as("UPDATE").isEqualTo(update);
+        assertThat(count.getDelete()).as("DELETE").isEqualTo(delete);
+    }
+
+    // 토큰 헤더 추가 (인증 주체는 미리 캐시해서 필터의 조회는 측정에서 제외)
+    private MockHttpServletRequestBuilder auth(MockHttpServletRequestBuilder request, String email) {
+        principalCache.get(email);
+        return request.header("Authorization", "Bearer " + jwtTokenProvider.generateAccessToken(email));
+    }
+
+    private Long insertUser(String email, String name, String role) {
+        jdbc.update("INSERT INTO user (email, password, role, name) VALUES (?, ?, ?, ?)",
+                email, encodedPassword, role, name);
+        return lastId("user");
+    }
+
+    private Long insertStudy(String title, boolean temp) {
+        jdbc.update("INSERT INTO study (author_id, title, description, status, category, schedule, location, "
+                        + "recruit_count, curriculum, views, is_temp, created_at, updated_at) "
+                        + "VALUES (?, ?, '자바 기초부터 함께 공부합니다', '모집중', '프로그래밍', '매주 토요일', '서울', "
+                        + "5, '1주차 ~ 8주차', 0, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                ownerId, title, temp);
+        return lastId("study");
+    }
+
+    private Long lastId(String table) {
+        return jdbc.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+    }
+
+    private static String studyJson(String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"설명\",\"status\":\"모집중\","
+                + "\"category\":\"프로그래밍\",\"schedule\":\"매주 일요일\",\"location\":\"온라인\","
+                + "\"recruitCount\":6,\"curriculum\":\"커리큘럼\"}";
+    }
+}
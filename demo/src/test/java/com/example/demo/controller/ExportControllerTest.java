@@ -0,0 +1,103 @@
+package com.example.demo.controller;
+
+import com.example.demo.util.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:export;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExportControllerTest {
+
+    private static final String ADMIN = "export-admin@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> studyIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM study");
+        jdbc.update("DELETE FROM user");
+        jdbc.update("INSERT INTO user (email, password, role, name) VALUES (?, 'x', 'ROLE_ADMIN', '관리자')", ADMIN);
+        Long adminId = jdbc.queryForObject("SELECT id FROM user WHERE email = ?", Long.class, ADMIN);
+
+        studyIds.clear();
+        for (int i = 1; i <= 5; i++) {
+            jdbc.update("INSERT INTO study (author_id, title, description, status, views, is_temp) "
+                    + "VALUES (?, ?, '설명', '모집중', 0, false)", adminId, "스터디 " + i);
+            studyIds.add(jdbc.queryForObject("SELECT MAX(id) FROM study", Long.class));
+        }
+        jdbc.update("INSERT INTO study (author_id, title, description, status, views, is_temp) "
+                + "VALUES (?, '임시저장', '설명', '모집중', 0, true)", adminId);
+    }
+
+    @Test
+    void 중단된_내보내기는_마지막_id_부터_이어받는다() throws Exception {
+        List<Long> first = exportStudyIds("/api/admin/export/studies?limit=2");
+        assertThat(first).containsExactly(studyIds.get(0), studyIds.get(1));
+
+        List<Long> rest = exportStudyIds("/api/admin/export/studies?afterId=" + first.get(first.size() - 1));
+        assertThat(rest).containsExactly(studyIds.get(2), studyIds.get(3), studyIds.get(4));
+    }
+
+    @Test
+    void 내보내기_요청만_비동기_응답_시간_제한이_늘어난다() throws Exception {
+        MvcResult result = start("/api/admin/export/studies");
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    private List<Long> exportStudyIds(String url) throws Exception {
+        MvcResult result = start(url);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+
+        List<Long> ids = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                ids.add(objectMapper.readTree(line).get("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    private MvcResult start(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", "Bearer " + jwtTokenProvider.generateAccessToken(ADMIN)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Participation.ParticipationStatus;
+import com.example.demo.service.ExportService;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 조회 쿼리 실행 계획 검사
+ * 스키마는 Flyway 마이그레이션(db/migration)으로 만들고, 각 조회 메서드가 실제로 보낸 SQL 을
+ * 같은 파라미터로 EXPLAIN 해서 풀스캔(H2 계획의 tableScan)이 있으면 실패한다.
+ * 새 조회 메서드를 추가하면 callAllReadMethods() 에도 추가하고, 필요한 인덱스는 새 마이그레이션으로 만들 것.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+@Import(RepositoryQueryPlanTest.RecordingConfig.class)
+class RepositoryQueryPlanTest {
+
+    private static final List<RecordedQuery> RECORDED = new CopyOnWriteArrayList<>();
+    private static volatile boolean recording;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ProfileTechStackRepository profileTechStackRepository;
+
+    @Autowired
+    private StudyStatsRepository studyStatsRepository;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void 조회_쿼리는_풀스캔하지_않는다() throws SQLException {
+        Ids ids = seed();
+
+        RECORDED.clear();
+        recording = true;
+        try {
+            callAllReadMethods(ids);
+        } finally {
+            recording = false;
+        }
+
+        List<RecordedQuery> selects = RECORDED.stream()
+                .filter(q -> q.sql().trim().toLowerCase().startsWith("select"))
+                .toList();
+        assertThat(selects).hasSizeGreaterThanOrEqualTo(25);
+
+        List<String> fullScans = new ArrayList<>();
+        DataSource target = ((ProxyDataSource) dataSource).getDataSource();
+        try (Connection con = target.getConnection()) {
+            for (RecordedQuery query : selects) {
+                String plan = explain(con, query);
+                if (plan.toLowerCase().contains("tablescan")) {
+                    fullScans.add(query.sql() + "\n  → " + plan.replace('\n', ' '));
+                }
+            }
+        }
+        assertThat(fullScans).as("풀스캔 쿼리").isEmpty();
+    }
+
+    private void callAllReadMethods(Ids ids) {
+        Long studyId = ids.studyId();
+        Long userId = ids.userId();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 스터디
+        studyRepository.findAllWithAuthor();
+        studyRepository.findByAuthorIdWithAuthor(userId);
+        studyRepository.findFeedFirstPage(null, null, null, 20);
+        studyRepository.findFeedFirstPage("프로그래밍", null, null, 20);
+        studyRepository.findFeedFirstPage(null, "모집중", null, 20);
+        studyRepository.findFeedFirstPage(null, null, "서울", 20);
+        studyRepository.findFeedAfter(null, null, null, now, studyId, 20);
+        studyRepository.findFeedAfter("프로그래밍", "모집중", "서울", now, studyId, 20);
+        studyRepository.findSummariesByIds(List.of(studyId));
+        studyRepository.findLatestTempByAuthor(userId);
+        studyRepository.findById(studyId);
+        studyStatsRepository.findById(studyId);
+
+        // 참여 신청
+        participationRepository.findByStudyIdWithUser(studyId.intValue());
+        participationRepository.findByUserIdWithStudy(userId.intValue());
+        participationRepository.findByStudyIdAndUserId(studyId.intValue(), userId.intValue());
+        participationRepository.findByStudyIdAndStatus(studyId.intValue(), ParticipationStatus.PENDING);
+        participationRepository.findUserIdsByStudyId(studyId.intValue());
+        participationRepository.findStatusesForUpdate(studyId.intValue(), List.of(ids.participationId()));
+        participationRepository.findById(ids.participationId());
+
+        // 댓글
+        commentRepository.findByStudyIdWithAuthor(studyId);
+        commentRepository.findRootPageWithAuthor(studyId, 0L, 20);
+        commentRepository.findReplyPageWithAuthor(ids.commentId(), 0L, 20);
+        commentRepository.countRepliesByParentIds(List.of(ids.commentId()));
+        commentRepository.findById(ids.commentId());
+
+        // 사용자 / 프로필
+        userRepository.findByEmail("plan@example.com");
+        userRepository.findByName("플랜");
+        userRepository.existsByEmail("plan@example.com");
+        userRepository.existsByName("플랜");
+        userRepository.findAllById(List.of(userId));
+        profileRepository.findByUserId(userId);
+        profileRepository.existsByUserId(userId);
+        profileTechStackRepository.findByProfileId(ids.profileId());
+
+        // 내보내기 (ExportService 의 JDBC 스트리밍 쿼리)
+        exportService.exportStudies("ndjson", 0L, null, OutputStream.nullOutputStream());
+        exportService.exportParticipations("ndjson", 0L, null, OutputStream.nullOutputStream());
+        exportService.exportComments("ndjson", 0L, null, OutputStream.nullOutputStream());
+    }
+
+    // 원래 SQL 에 같은 파라미터를 넣어 EXPLAIN
+    private String explain(Connection con, RecordedQuery query) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + query.sql())) {
+            for (Map.Entry<Integer, Object> param : query.params().entrySet()) {
+                ps.setObject(param.getKey(), param.getValue());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private Ids seed() {
+        for (String table : new String[]{"study_stats", "participation", "comment", "profile_tech_stack",
+                "profile", "study", "user"}) {
+            jdbc.update("DELETE FROM " + table);
+        }
+
+        jdbc.update("INSERT INTO user (email, password, role, name) VALUES ('plan@example.com', 'x', 'ROLE_USER', '플랜')");
+        Long userId = jdbc.queryForObject("SELECT id FROM user WHERE email = 'plan@example.com'", Long.class);
+        jdbc.update("INSERT INTO profile (user_id, created_at, updated_at) VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", userId);
+        Long profileId = jdbc.queryForObject("SELECT id FROM profile WHERE user_id = ?", Long.class, userId);
+        jdbc.update("INSERT INTO profile_tech_stack (profile_id, tech, created_at) VALUES (?, 'Java', CURRENT_TIMESTAMP)", profileId);
+
+        jdbc.update("INSERT INTO study (author_id, title, description, status, category, location, recruit_count, "
+                + "views, is_temp, created_at, updated_at) VALUES (?, '실행 계획', '설명', '모집중', '프로그래밍', '서울', "
+                + "5, 0, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", userId);
+        Long studyId = jdbc.queryForObject("SELECT id FROM study WHERE title = '실행 계획'", Long.class);
+
+        jdbc.update("INSERT INTO comment (study_id, author_id, content, created_at, updated_at) "
+                + "VALUES (?, ?, '댓글', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", studyId, userId);
+        Long commentId = jdbc.queryForObject("SELECT id FROM comment WHERE study_id = ?", Long.class, studyId);
+
+        jdbc.update("INSERT INTO participation (study_id, user_id, status, created_at, updated_at) "
+                + "VALUES (?, ?, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", studyId, userId);
+        Integer participationId = jdbc.queryForObject("SELECT id FROM participation WHERE study_id = ?",
+                Integer.class, studyId);
+
+        return new Ids(userId, profileId, studyId, commentId, participationId);
+    }
+
+    private record Ids(Long userId, Long profileId, Long studyId, Long commentId, Integer participationId) {
+    }
+
+    private record RecordedQuery(String sql, Map<Integer, Object> params) {
+    }
+
+    // 실행된 SQL 과 바인딩 값을 기록하는 DataSource 프록시
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name("query-plan")
+                                .listener(new Recorder())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class Recorder implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (!recording) {
+                return;
+            }
+            for (QueryInfo info : queryInfoList) {
+                List<List<ParameterSetOperation>> paramsList = info.getParametersList();
+                Map<Integer, Object> params = new TreeMap<>();
+                if (!paramsList.isEmpty()) {
+                    for (ParameterSetOperation op : paramsList.get(0)) {
+                        Object[] args = op.getArgs();
+                        boolean isNull = "setNull".equals(op.getMethod().getName());
+                        params.put((Integer) args[0], isNull ? null : args[1]);
+                    }
+                }
+                RECORDED.add(new RecordedQuery(info.getQuery(), params));
+            }
+        }
+    }
+}
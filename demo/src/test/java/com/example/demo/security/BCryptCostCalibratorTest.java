@@ -0,0 +1,34 @@
+package com.example.demo.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    void 목표_시간이_넉넉하면_최대_cost() {
+        assertThat(BCryptCostCalibrator.calibrate(Long.MAX_VALUE, 4, 6)).isEqualTo(6);
+    }
+
+    @Test
+    void 가장_낮은_cost_도_목표를_넘으면_최소_cost() {
+        assertThat(BCryptCostCalibrator.calibrate(0, 4, 6)).isEqualTo(4);
+    }
+
+    @Test
+    void 측정_시간은_양수() {
+        assertThat(BCryptCostCalibrator.measureMillis(4)).isPositive();
+    }
+
+    @Test
+    void 잘못된_cost_범위는_거절한다() {
+        assertThatThrownBy(() -> BCryptCostCalibrator.calibrate(100, 3, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BCryptCostCalibrator.calibrate(100, 12, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BCryptCostCalibrator.calibrate(100, 10, 32))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
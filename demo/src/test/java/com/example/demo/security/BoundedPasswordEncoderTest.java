@@ -0,0 +1,149 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 비밀번호를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingEncoder delegate = new BlockingEncoder();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        callers.shutdownNow();
+        encoder.close();
+    }
+
+    @Test
+    void 실행_중과_대기_중인_해시가_가득_차면_바로_거절한다() throws Exception {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 5_000, meterRegistry);
+
+        Future<String> running = callers.submit(() -> encoder.encode("a"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> encoder.encode("b"));
+        waitForQueued();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("c")).hasMessage(BUSY_MESSAGE);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+        assertThat(rejected()).isEqualTo(1);
+
+        delegate.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+    }
+
+    @Test
+    void 대기_시간을_넘긴_해시는_실패하고_끝날_때까지_자리를_차지한다() throws Exception {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 0, 300, meterRegistry);
+
+        Future<String> timedOut = callers.submit(() -> encoder.encode("a"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> timedOut.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().hasMessage(BUSY_MESSAGE);
+
+        // 포기한 해시가 아직 실행 중이므로 새 요청은 기다리지 않고 거절
+        assertThatThrownBy(() -> encoder.encode("b")).hasMessage(BUSY_MESSAGE);
+        assertThat(rejected()).isEqualTo(2);
+
+        delegate.release.countDown();
+        assertThat(encodeWhenFree("c")).isEqualTo("hash:c");
+        assertThat(delegate.encoded).containsExactly("a", "c");
+    }
+
+    @Test
+    void 대기_중에_포기한_해시는_실행하지_않고_자리를_반환한다() throws Exception {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 300, meterRegistry);
+
+        callers.submit(() -> encoder.encode("a"));
+        assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 워커가 a 에 묶여 있어 b 는 대기 중에 시간 초과
+        assertThatThrownBy(() -> encoder.encode("b")).hasMessage(BUSY_MESSAGE);
+
+        delegate.release.countDown();
+        assertThat(encodeWhenFree("c")).isEqualTo("hash:c");
+        assertThat(delegate.encoded).containsExactly("a", "c");
+    }
+
+    // 실행 중이던 해시가 끝나 자리가 날 때까지 재시도 (최대 5초)
+    private String encodeWhenFree(String raw) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            try {
+                return encoder.encode(raw);
+            } catch (RuntimeException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private void waitForQueued() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (queueDepth() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queueDepth()).isEqualTo(1);
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("password.hashing.queue").gauge().value();
+    }
+
+    private double rejected() {
+        return meterRegistry.get("password.hashing.rejected").counter().count();
+    }
+
+    // release 전까지 끝나지 않는 해시 (BCrypt 처럼 인터럽트로 멈추지 않음)
+    private static final class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> encoded = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            boolean interrupted = false;
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            encoded.add(rawPassword.toString());
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
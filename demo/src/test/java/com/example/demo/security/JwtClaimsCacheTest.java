@@ -0,0 +1,51 @@
+package com.example.demo.security;
+
+import com.example.demo.util.JwtTokenProvider;
+import com.example.demo.util.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtClaimsCacheTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        cache = new JwtClaimsCache(jwtTokenProvider, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 같은_토큰은_만료_전까지_한_번만_검증한다() {
+        Instant now = Instant.now();
+        when(jwtTokenProvider.parseAndValidate("token"))
+                .thenReturn(new TokenClaims("user@example.com", now, now.plusSeconds(3600)));
+
+        assertThat(cache.verify("token")).isEqualTo("user@example.com");
+        assertThat(cache.verify("token")).isEqualTo("user@example.com");
+
+        verify(jwtTokenProvider, times(1)).parseAndValidate("token");
+    }
+
+    @Test
+    void 만료_시각이_지난_토큰은_캐시에서_꺼내지_않는다() {
+        Instant now = Instant.now();
+        when(jwtTokenProvider.parseAndValidate("token"))
+                .thenReturn(new TokenClaims("user@example.com", now.minusSeconds(10), now.minusSeconds(1)));
+
+        cache.verify("token");
+        cache.verify("token");
+
+        verify(jwtTokenProvider, times(2)).parseAndValidate("token");
+    }
+}
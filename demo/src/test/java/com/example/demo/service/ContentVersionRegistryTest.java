@@ -0,0 +1,36 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentVersionRegistryTest {
+
+    private final ContentVersionRegistry registry = new ContentVersionRegistry();
+
+    @Test
+    void 삭제된_스터디의_항목은_남지_않는다() {
+        for (long id = 1; id <= 1000; id++) {
+            registry.studyChanged(id);
+            registry.commentsChanged(id);
+        }
+        assertThat(registry.trackedCount()).isEqualTo(2000);
+
+        for (long id = 1; id <= 1000; id++) {
+            registry.studyDeleted(id);
+        }
+        assertThat(registry.trackedCount()).isZero();
+    }
+
+    @Test
+    void 삭제된_스터디의_예전_ETag_는_다시_맞지_않는다() {
+        String untouched = registry.study(1L).getEtag();
+        registry.studyChanged(1L);
+        String changed = registry.study(1L).getEtag();
+
+        registry.studyDeleted(1L);
+
+        assertThat(registry.study(1L).getEtag()).isNotIn(untouched, changed);
+        assertThat(registry.comments(1L).getEtag()).isNotEqualTo(untouched);
+    }
+}
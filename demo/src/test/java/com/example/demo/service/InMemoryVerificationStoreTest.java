@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryVerificationStoreTest {
+
+    @Test
+    void 백만건_요청에도_최대_항목_수를_넘지_않고_새_항목은_저장된다() {
+        InMemoryVerificationStore store = new InMemoryVerificationStore(10_000);
+
+        for (int i = 0; i < 1_000_000; i++) {
+            assertThat(store.put("reset-code:user" + i + "@example.com", "123456", Duration.ofMinutes(10))).isTrue();
+        }
+
+        // 가장 오래된 항목부터 밀려남
+        assertThat(store.size()).isEqualTo(10_000);
+        assertThat(store.get("reset-code:user0@example.com")).isNull();
+        assertThat(store.get("reset-code:user999999@example.com")).isEqualTo("123456");
+    }
+
+    @Test
+    void 다시_저장한_키는_최신_항목으로_남는다() {
+        InMemoryVerificationStore store = new InMemoryVerificationStore(2);
+
+        store.put("a", "1", Duration.ofMinutes(10));
+        store.put("b", "2", Duration.ofMinutes(10));
+        store.put("a", "3", Duration.ofMinutes(10));
+        store.put("c", "4", Duration.ofMinutes(10));
+
+        assertThat(store.get("a")).isEqualTo("3");
+        assertThat(store.get("b")).isNull();
+        assertThat(store.get("c")).isEqualTo("4");
+    }
+
+    @Test
+    void 만료된_항목은_조회되지_않고_정리된다() throws InterruptedException {
+        InMemoryVerificationStore store = new InMemoryVerificationStore(100);
+
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + i, "v", Duration.ofMillis(20));
+        }
+        Thread.sleep(50);
+
+        assertThat(store.get("key0")).isNull();
+        store.evictExpired();
+        assertThat(store.put("new-key", "v", Duration.ofMinutes(10))).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 시도_횟수는_만료되면_다시_1부터_센다() throws InterruptedException {
+        InMemoryVerificationStore store = new InMemoryVerificationStore(100);
+
+        assertThat(store.increment("attempts", Duration.ofMillis(20))).isEqualTo(1);
+        assertThat(store.increment("attempts", Duration.ofMillis(20))).isEqualTo(2);
+        Thread.sleep(50);
+
+        assertThat(store.increment("attempts", Duration.ofMillis(20))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @Test
+    void 큐에_넣은_메일은_비동기로_모두_발송된다() throws InterruptedException {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        dispatcher = start(sender, 2);
+
+        for (int i = 0; i < 25; i++) {
+            dispatcher.enqueue(message("user" + i + "@studymate.test"));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 25)).isTrue();
+        waitUntil(() -> dispatcher.getSentCount() == 25);
+        assertThat(dispatcher.getQueueDepth()).isZero();
+        assertThat(dispatcher.getFailedCount()).isZero();
+        assertThat(meterRegistry.get("mail.dispatch.sent").counter().count()).isEqualTo(25);
+        assertThat(meterRegistry.get("mail.dispatch.send").timer().count()).isPositive();
+    }
+
+    @Test
+    void 일부만_실패하면_실패한_메일만_다시_보낸다() throws InterruptedException {
+        SimpleMailMessage ok = message("ok@studymate.test");
+        SimpleMailMessage flaky = message("flaky@studymate.test");
+
+        // 첫 전송에서 flaky 만 실패 (ok 는 이미 발송된 상태로 예외 - JavaMailSenderImpl 과 같은 동작)
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        JavaMailSender sender = mock(JavaMailSender.class);
+        doAnswer(invocation -> {
+            SimpleMailMessage[] messages = (SimpleMailMessage[]) invocation.getRawArguments()[0];
+            Map<Object, Exception> failures = new LinkedHashMap<>();
+            for (SimpleMailMessage m : messages) {
+                if (m == flaky && failedOnce.compareAndSet(false, true)) {
+                    failures.put(m, new Exception("450 mailbox busy"));
+                } else {
+                    delivered.add(m.getTo()[0]);
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new MailSendException(failures);
+            }
+            return null;
+        }).when(sender).send(any(SimpleMailMessage[].class));
+
+        dispatcher = start(sender, 1);
+        dispatcher.enqueue(ok);
+        dispatcher.enqueue(flaky);
+
+        waitUntil(() -> delivered.size() == 2);
+        assertThat(delivered).containsExactlyInAnyOrder("ok@studymate.test", "flaky@studymate.test");
+        assertThat(dispatcher.getSentCount()).isEqualTo(2);
+        assertThat(dispatcher.getRetryCount()).isEqualTo(1);
+        assertThat(dispatcher.getFailedCount()).isZero();
+    }
+
+    private MailDispatcher start(JavaMailSender sender, int workers) {
+        meterRegistry = new SimpleMeterRegistry();
+        MailDispatcher started = new MailDispatcher(sender, meterRegistry);
+        ReflectionTestUtils.setField(started, "workerCount", workers);
+        ReflectionTestUtils.setField(started, "queueCapacity", 100);
+        ReflectionTestUtils.setField(started, "batchSize", 10);
+        ReflectionTestUtils.setField(started, "maxAttempts", 3);
+        ReflectionTestUtils.setField(started, "backoffMillis", 10L);
+        started.start();
+        return started;
+    }
+
+    // 비동기 발송 완료 대기 (최대 5초)
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@studymate.test");
+        message.setTo(to);
+        message.setSubject("인증코드");
+        message.setText("123456");
+        return message;
+    }
+}
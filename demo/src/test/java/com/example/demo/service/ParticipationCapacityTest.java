@@ -0,0 +1,180 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ParticipationBatchResultDTO;
+import com.example.demo.dto.ParticipationBatchResultDTO.Outcome;
+import com.example.demo.dto.ParticipationBatchUpdateDTO;
+import com.example.demo.dto.ParticipationUpdateDTO;
+import com.example.demo.dto.StudyRequestDTO;
+import com.example.demo.entity.Participation.ParticipationStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ParticipationCapacityTest {
+
+    private static final int RECRUIT_COUNT = 10;
+    private static final int APPLICANTS = 2000;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void 동시_승인_요청에도_모집_인원을_넘지_않는다() throws InterruptedException {
+        Integer studyId = createStudy("owner@example.com", "정원 테스트");
+        List<Integer> participationIds = apply(studyId, APPLICANTS);
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger approved = new AtomicInteger();
+        for (Integer participationId : participationIds) {
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    participationService.updateParticipationStatus(studyId, participationId,
+                            new ParticipationUpdateDTO(ParticipationStatus.APPROVED), "owner@example.com");
+                    approved.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 정원 초과 거절은 정상
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(approved.get()).isEqualTo(RECRUIT_COUNT);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM participation WHERE study_id = ? AND status = 'APPROVED'",
+                Integer.class, studyId)).isEqualTo(RECRUIT_COUNT);
+        assertThat(jdbc.queryForObject("SELECT approved_count FROM study WHERE id = ?", Integer.class, studyId))
+                .isEqualTo(RECRUIT_COUNT);
+        assertThat(status(studyId)).isEqualTo("모집완료");
+    }
+
+    @Test
+    void 정원이_찬_뒤_승인을_취소하면_다시_모집중이_된다() {
+        Integer studyId = createStudy("reopen@example.com", "재모집 테스트");
+        List<Integer> participationIds = apply(studyId, RECRUIT_COUNT);
+        for (Integer participationId : participationIds) {
+            approve(studyId, participationId, "reopen@example.com");
+        }
+        assertThat(status(studyId)).isEqualTo("모집완료");
+
+        participationService.updateParticipationStatus(studyId, participationIds.get(0),
+                new ParticipationUpdateDTO(ParticipationStatus.REJECTED), "reopen@example.com");
+
+        assertThat(status(studyId)).isEqualTo("모집중");
+        assertThat(jdbc.queryForObject("SELECT approved_count FROM study WHERE id = ?", Integer.class, studyId))
+                .isEqualTo(RECRUIT_COUNT - 1);
+    }
+
+    @Test
+    void 정원이_찬_스터디는_수정해도_모집완료가_유지된다() {
+        Integer studyId = createStudy("edit@example.com", "수정 테스트");
+        for (Integer participationId : apply(studyId, RECRUIT_COUNT)) {
+            approve(studyId, participationId, "edit@example.com");
+        }
+
+        StudyRequestDTO dto = StudyRequestDTO.builder()
+                .title("수정 테스트").description("설명 수정").status("모집중").recruitCount(RECRUIT_COUNT).build();
+        studyService.updateStudy(studyId.longValue(), dto, "edit@example.com");
+        assertThat(status(studyId)).isEqualTo("모집완료");
+
+        // 정원을 늘리면 요청한 상태로 변경 가능
+        dto.setRecruitCount(RECRUIT_COUNT + 1);
+        studyService.updateStudy(studyId.longValue(), dto, "edit@example.com");
+        assertThat(status(studyId)).isEqualTo("모집중");
+    }
+
+    @Test
+    void 일괄_승인이_정원을_넘으면_전체가_롤백된다() {
+        Integer studyId = createStudy("batch-full@example.com", "일괄 정원 테스트");
+        List<Integer> participationIds = apply(studyId, RECRUIT_COUNT + 2);
+
+        assertThatThrownBy(() -> participationService.updateParticipationStatuses(studyId,
+                new ParticipationBatchUpdateDTO(participationIds, ParticipationStatus.APPROVED), "batch-full@example.com"))
+                .hasMessage("모집 인원이 가득 찼습니다.");
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM participation WHERE study_id = ? AND status = 'PENDING'",
+                Integer.class, studyId)).isEqualTo(RECRUIT_COUNT + 2);
+        assertThat(jdbc.queryForObject("SELECT approved_count FROM study WHERE id = ?", Integer.class, studyId))
+                .isZero();
+        assertThat(status(studyId)).isEqualTo("모집중");
+    }
+
+    @Test
+    void 일괄_처리는_다른_스터디의_신청을_건드리지_않고_항목별_결과가_건수와_맞는다() {
+        Integer studyId = createStudy("batch-owner@example.com", "일괄 처리 테스트");
+        Integer otherStudyId = createStudy("batch-other@example.com", "다른 스터디");
+        List<Integer> mine = apply(studyId, 3);
+        Integer foreign = apply(otherStudyId, 1).get(0);
+        approve(studyId, mine.get(0), "batch-owner@example.com");
+
+        ParticipationBatchResultDTO result = participationService.updateParticipationStatuses(studyId,
+                new ParticipationBatchUpdateDTO(List.of(mine.get(0), mine.get(1), mine.get(2), foreign),
+                        ParticipationStatus.APPROVED), "batch-owner@example.com");
+
+        assertThat(result.getResults()).extracting(ParticipationBatchResultDTO.Item::getOutcome)
+                .containsExactly(Outcome.UNCHANGED, Outcome.UPDATED, Outcome.UPDATED, Outcome.NOT_FOUND);
+        assertThat(result.getResults()).extracting(ParticipationBatchResultDTO.Item::isSuccess)
+                .containsExactly(true, true, true, false);
+        assertThat(result.getUpdatedCount()).isEqualTo(2);
+
+        assertThat(jdbc.queryForObject("SELECT status FROM participation WHERE id = ?", String.class, foreign))
+                .isEqualTo("PENDING");
+        assertThat(jdbc.queryForObject("SELECT approved_count FROM study WHERE id = ?", Integer.class, studyId))
+                .isEqualTo(3);
+    }
+
+    private Integer createStudy(String ownerEmail, String title) {
+        jdbc.update("INSERT INTO user (email, password, role, name) VALUES (?, 'x', 'USER', '방장')", ownerEmail);
+        Long ownerId = jdbc.queryForObject("SELECT id FROM user WHERE email = ?", Long.class, ownerEmail);
+
+        jdbc.update("INSERT INTO study (author_id, title, description, status, recruit_count, views, is_temp) "
+                + "VALUES (?, ?, '설명', '모집중', ?, 0, false)", ownerId, title, RECRUIT_COUNT);
+        return jdbc.queryForObject("SELECT id FROM study WHERE title = ?", Integer.class, title);
+    }
+
+    // 신청자(승인 응답에서 조회하므로 실제 사용자)와 대기 중인 신청 생성
+    private List<Integer> apply(Integer studyId, int applicants) {
+        String prefix = "applicant-" + studyId + "-";
+        List<Object[]> users = new ArrayList<>(applicants);
+        for (int i = 0; i < applicants; i++) {
+            users.add(new Object[]{prefix + i + "@example.com"});
+        }
+        jdbc.batchUpdate("INSERT INTO user (email, password, role, name) VALUES (?, 'x', 'USER', '신청자')", users);
+        jdbc.update("INSERT INTO participation (study_id, user_id, status) "
+                + "SELECT ?, id, 'PENDING' FROM user WHERE email LIKE ?", studyId, prefix + "%");
+        return jdbc.queryForList("SELECT id FROM participation WHERE study_id = ?", Integer.class, studyId);
+    }
+
+    private void approve(Integer studyId, Integer participationId, String ownerEmail) {
+        participationService.updateParticipationStatus(studyId, participationId,
+                new ParticipationUpdateDTO(ParticipationStatus.APPROVED), ownerEmail);
+    }
+
+    private String status(Integer studyId) {
+        return jdbc.queryForObject("SELECT status FROM study WHERE id = ?", String.class, studyId);
+    }
+}
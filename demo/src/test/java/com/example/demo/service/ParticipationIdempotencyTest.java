@@ -0,0 +1,100 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ParticipationRequestDTO;
+import com.example.demo.dto.ParticipationResponseDTO;
+import com.example.demo.support.QueryCountConfig;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사용자/스터디로 동시에 들어온 참여 신청 (더블클릭, 재시도)
+ * 한 건만 저장되고, 같은 Idempotency-Key 요청은 모두 그 신청을 돌려받으며,
+ * 요청마다 신청 INSERT 는 한 번뿐이어야 한다 (중복 확인 조회 없음).
+ * 조회는 스터디, 사용자, 저장된 신청(잠금 읽기) 세 번.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+@Import(QueryCountConfig.class)
+class ParticipationIdempotencyTest {
+
+    private static final int THREADS = 500;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void 같은_신청을_동시에_보내도_한_건만_저장된다() throws Exception {
+        jdbc.update("INSERT INTO user (email, password, role, name) VALUES ('host@example.com', 'x', 'USER', '방장')");
+        Long ownerId = jdbc.queryForObject("SELECT id FROM user WHERE email = 'host@example.com'", Long.class);
+        jdbc.update("INSERT INTO user (email, password, role, name) VALUES ('clicker@example.com', 'x', 'USER', '지원자')");
+
+        jdbc.update("INSERT INTO study (author_id, title, description, status, recruit_count, views, is_temp) "
+                + "VALUES (?, '중복 신청 테스트', '설명', '모집중', 5, 0, false)", ownerId);
+        Integer studyId = jdbc.queryForObject("SELECT id FROM study WHERE title = '중복 신청 테스트'", Integer.class);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Result>> futures = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                QueryCountHolder.clear();
+                ParticipationResponseDTO response = participationService.createParticipation(studyId,
+                        new ParticipationRequestDTO("참여하고 싶어요"), "clicker@example.com", "click-1");
+                return new Result(response, QueryCountHolder.getGrandTotal());
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        List<Result> results = new ArrayList<>(THREADS);
+        for (Future<Result> future : futures) {
+            results.add(future.get());
+        }
+
+        // 모두 같은 신청을 돌려받음
+        Integer participationId = results.get(0).response().getId();
+        assertThat(results).allSatisfy(r -> assertThat(r.response().getId()).isEqualTo(participationId));
+
+        // 신청 INSERT 는 요청당 1회, 집계 INSERT 는 실제로 저장한 요청 1건만
+        assertThat(results).allSatisfy(r -> {
+            assertThat(r.count().getSelect()).isEqualTo(3);
+            assertThat(r.count().getInsert()).isBetween(1, 2);
+            assertThat(r.count().getUpdate()).isZero();
+            assertThat(r.count().getDelete()).isZero();
+        });
+        assertThat(results.stream().filter(r -> r.count().getInsert() == 2).count()).isEqualTo(1);
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM participation WHERE study_id = ?",
+                Integer.class, studyId)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT applicant_count FROM study_stats WHERE study_id = ?",
+                Integer.class, studyId)).isEqualTo(1);
+    }
+
+    private record Result(ParticipationResponseDTO response, QueryCount count) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Participation;
+import com.example.demo.entity.Participation.ParticipationStatus;
+import com.example.demo.entity.User;
+import com.example.demo.repository.ParticipationRepository;
+import com.example.demo.repository.StudyRepository;
+import com.example.demo.repository.StudyStatsRepository;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipationServiceTest {
+
+    private static final int STUDY_ID = 10;
+    private static final int PARTICIPATION_ID = 100;
+
+    private ParticipationRepository participationRepository;
+    private UserRepository userRepository;
+    private ParticipationService participationService;
+
+    @BeforeEach
+    void setUp() {
+        participationRepository = mock(ParticipationRepository.class);
+        userRepository = mock(UserRepository.class);
+        participationService = new ParticipationService(participationRepository, mock(StudyRepository.class),
+                mock(StudyStatsRepository.class), userRepository, mock(ContentVersionRegistry.class),
+                mock(TechMatchIndex.class));
+
+        Participation participation = Participation.builder()
+                .id(PARTICIPATION_ID).studyId(STUDY_ID).userId(7).status(ParticipationStatus.PENDING).build();
+        when(participationRepository.findById(PARTICIPATION_ID)).thenReturn(Optional.of(participation));
+    }
+
+    // 신청의 user_id(Integer)와 사용자 id(Long)를 그대로 equals 로 비교하면 항상 false 였음
+    @Test
+    void 신청자_본인은_참여_신청을_취소할_수_있다() {
+        givenUser("applicant@example.com", 7L);
+
+        participationService.deleteParticipation(STUDY_ID, PARTICIPATION_ID, "applicant@example.com");
+
+        verify(participationRepository).delete(any(Participation.class));
+    }
+
+    @Test
+    void 다른_사용자는_참여_신청을_취소할_수_없다() {
+        givenUser("other@example.com", 8L);
+
+        assertThatThrownBy(() -> participationService.deleteParticipation(STUDY_ID, PARTICIPATION_ID, "other@example.com"))
+                .hasMessage("삭제 권한이 없습니다.");
+        verify(participationRepository, never()).delete(any(Participation.class));
+    }
+
+    private void givenUser(String email, Long id) {
+        User user = User.builder().id(id).email(email).name("사용자").role("ROLE_USER").build();
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.VerifyCodeDTO;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class PasswordResetServiceTest {
+
+    private InMemoryVerificationStore store;
+    private PasswordResetService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryVerificationStore(1_000);
+        service = new PasswordResetService(mock(UserRepository.class), mock(PasswordEncoder.class),
+                mock(MailService.class), mock(PrincipalCache.class), mock(EntityCacheService.class), store);
+    }
+
+    @Test
+    void 코드가_없는_이메일의_검증_요청은_저장소에_남지_않는다() {
+        for (int i = 0; i < 10_000; i++) {
+            assertThatThrownBy(() -> service.verifyCode(request("nobody" + i + "@example.com", "000000")))
+                    .hasMessage("인증코드가 올바르지 않습니다.");
+        }
+
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void 발급된_코드는_최대_시도_횟수까지만_검증한다() {
+        store.put("reset-code:user@example.com", "123456", Duration.ofMinutes(10));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> service.verifyCode(request("user@example.com", "000000")))
+                    .hasMessage("인증코드가 올바르지 않습니다.");
+        }
+        assertThatThrownBy(() -> service.verifyCode(request("user@example.com", "123456")))
+                .hasMessage("인증 시도 횟수를 초과했습니다. 인증코드를 다시 요청해주세요.");
+        assertThat(store.get("reset-code:user@example.com")).isNull();
+    }
+
+    private static VerifyCodeDTO request(String email, String code) {
+        VerifyCodeDTO dto = new VerifyCodeDTO();
+        dto.setEmail(email);
+        dto.setCode(code);
+        return dto;
+    }
+}
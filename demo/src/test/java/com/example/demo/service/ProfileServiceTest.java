@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.MyProfileResponseDto;
+import com.example.demo.dto.ProfileUpdateRequestDto;
+import com.example.demo.entity.Profile;
+import com.example.demo.entity.ProfileTechStack;
+import com.example.demo.entity.User;
+import com.example.demo.repository.ProfileRepository;
+import com.example.demo.repository.ProfileTechStackRepository;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final Long PROFILE_ID = 3L;
+
+    private ProfileTechStackRepository techStackRepository;
+    private ProfileService profileService;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        ProfileRepository profileRepository = mock(ProfileRepository.class);
+        techStackRepository = mock(ProfileTechStackRepository.class);
+        profileService = new ProfileService(profileRepository, techStackRepository, userRepository,
+                mock(EntityCacheService.class), mock(TechMatchIndex.class));
+
+        User user = User.builder().id(1L).email(EMAIL).name("사용자").role("ROLE_USER").build();
+        Profile profile = Profile.builder().id(PROFILE_ID).userId(1L).build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(profileRepository.findByUserId(1L)).thenReturn(Optional.of(profile));
+        when(profileRepository.save(any(Profile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(techStackRepository.findByProfileId(PROFILE_ID)).thenReturn(List.of(
+                ProfileTechStack.builder().profileId(PROFILE_ID).tech("Java").build(),
+                ProfileTechStack.builder().profileId(PROFILE_ID).tech("Kotlin").build()));
+    }
+
+    @Test
+    void 대소문자만_다른_기술은_먼저_온_표기_하나만_저장한다() {
+        MyProfileResponseDto response = profileService.updateProfile(EMAIL,
+                request("Spring", "spring", "SPRING ", "Java", "Kotlin"));
+
+        assertThat(response.getTechStack()).containsExactly("Spring", "Java", "Kotlin");
+        verify(techStackRepository, never()).deleteByProfileIdAndTechIn(any(), anyCollection());
+        assertThat(savedTechs()).containsExactly("Spring");
+    }
+
+    @Test
+    void 표기만_바뀐_기술은_기존_행을_지우고_새_표기로_저장한다() {
+        MyProfileResponseDto response = profileService.updateProfile(EMAIL, request("java", "JAVA", "Kotlin"));
+
+        assertThat(response.getTechStack()).containsExactly("java", "Kotlin");
+        verify(techStackRepository).deleteByProfileIdAndTechIn(eq(PROFILE_ID), eq(List.of("Java")));
+        assertThat(savedTechs()).containsExactly("java");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> savedTechs() {
+        ArgumentCaptor<Iterable<ProfileTechStack>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(techStackRepository).saveAll(captor.capture());
+        List<String> techs = new ArrayList<>();
+        captor.getValue().forEach(t -> techs.add(t.getTech()));
+        return techs;
+    }
+
+    private static ProfileUpdateRequestDto request(String... techs) {
+        ProfileUpdateRequestDto dto = new ProfileUpdateRequestDto();
+        dto.setTechStack(List.of(techs));
+        return dto;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudySearchIndexTest {
+
+    private StudySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudySearchIndex(null);
+        index.index(1L, "Spring을 배우는 스터디", "주 1회 모임", "Spring Boot, JPA", "백엔드");
+        index.index(2L, "React로 만드는 포트폴리오", "프론트엔드 입문", "React, TypeScript", "프론트엔드");
+        index.index(3L, "알고리즘 스터디", "Spring 은 다루지 않음", "그래프, DP", "알고리즘");
+    }
+
+    @Test
+    void 조사가_붙은_영문_단어도_검색된다() {
+        assertThat(index.search("spring", 10)).containsExactly(1L, 3L);
+        assertThat(index.search("react", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void 더_많이_겹치는_스터디가_먼저_나온다() {
+        assertThat(index.search("알고리즘 스터디", 10)).containsExactly(3L, 1L);
+        assertThat(index.search("알고리즘 스터디", 1)).containsExactly(3L);
+    }
+
+    @Test
+    void 수정과_삭제가_바로_반영된다() {
+        index.index(2L, "Spring 실전", "", "", "백엔드");
+        assertThat(index.search("react", 10)).isEmpty();
+        assertThat(index.search("spring", 10)).contains(2L);
+
+        index.remove(1L);
+        assertThat(index.search("spring", 10)).doesNotContain(1L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CommentRequestDTO;
+import com.example.demo.dto.StudySummaryDTO;
+import com.example.demo.repository.StudyRepository;
+import com.example.demo.repository.StudySummaryView;
+import com.example.demo.util.ProjectionMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyStatsReconcilerTest {
+
+    @Autowired
+    private StudyStatsReconciler reconciler;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void 증감분으로_유지되고_어긋난_값은_보정된다() {
+        jdbc.update("INSERT INTO user (email, password, role, name) VALUES ('stats@example.com', 'x', 'USER', '집계')");
+        Long userId = jdbc.queryForObject("SELECT id FROM user WHERE email = 'stats@example.com'", Long.class);
+        jdbc.update("INSERT INTO study (author_id, title, description, status, recruit_count, views, is_temp) "
+                + "VALUES (?, '집계 테스트', '설명', '모집중', 5, 0, false)", userId);
+        Long studyId = jdbc.queryForObject("SELECT id FROM study WHERE title = '집계 테스트'", Long.class);
+
+        // 서비스를 거친 댓글은 증감분으로 반영
+        for (int i = 0; i < 3; i++) {
+            commentService.createComment(studyId, new CommentRequestDTO("댓글 " + i, null), "stats@example.com");
+        }
+        assertThat(summary(studyId).getCommentCount()).isEqualTo(3);
+
+        // 서비스를 거치지 않은 변경 (직접 INSERT, 승인 인원 불일치)
+        jdbc.update("INSERT INTO participation (study_id, user_id, status) VALUES (?, 9001, 'APPROVED')", studyId);
+        jdbc.update("INSERT INTO participation (study_id, user_id, status) VALUES (?, 9002, 'PENDING')", studyId);
+        jdbc.update("DELETE FROM comment WHERE study_id = ? AND content = '댓글 0'", studyId);
+
+        assertThat(reconciler.reconcile()).isGreaterThanOrEqualTo(1);
+
+        StudySummaryDTO summary = summary(studyId);
+        assertThat(summary.getCommentCount()).isEqualTo(2);
+        assertThat(summary.getApplicantCount()).isEqualTo(2);
+        assertThat(summary.getApprovedCount()).isEqualTo(1);
+
+        // 이미 맞는 값은 다시 실행해도 그대로
+        reconciler.reconcile();
+        assertThat(summary(studyId).getCommentCount()).isEqualTo(2);
+        assertThat(summary(studyId).getApprovedCount()).isEqualTo(1);
+    }
+
+    // 피드와 같은 요약 프로젝션 (study_stats 조인)
+    private StudySummaryDTO summary(Long studyId) {
+        List<StudySummaryView> rows = studyRepository.findSummariesByIds(List.of(studyId));
+        assertThat(rows).hasSize(1);
+        return ProjectionMapper.toStudySummary(rows.get(0));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StudyViewCounterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StudyViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new StudyViewCounter(mock(JdbcTemplate.class), mock(EntityCacheService.class), meterRegistry);
+        counter.registerMetrics();
+    }
+
+    @Test
+    void 한_주기_동안_조회가_없던_스터디의_카운터는_제거된다() {
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        counter.flush();
+        assertThat(meterRegistry.get("study.views.pending.studies").gauge().value()).isEqualTo(2);
+
+        counter.increment(2L);
+        counter.flush();
+        assertThat(meterRegistry.get("study.views.pending.studies").gauge().value()).isEqualTo(1);
+
+        counter.flush();
+        assertThat(meterRegistry.get("study.views.pending.studies").gauge().value()).isZero();
+    }
+
+    @Test
+    void 미반영_조회수와_flush_횟수를_지표로_노출한다() {
+        counter.increment(1L);
+        counter.increment(2L);
+        assertThat(meterRegistry.get("study.views.pending").gauge().value()).isEqualTo(2);
+
+        counter.flush();
+        assertThat(meterRegistry.get("study.views.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("study.views.flushes").functionCounter().count()).isEqualTo(1);
+    }
+}
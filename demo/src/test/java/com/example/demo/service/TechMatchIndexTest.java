@@ -0,0 +1,110 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TechMatchIndexTest {
+
+    private TechMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TechMatchIndex(null);
+        index.indexProfile(1L, List.of("Spring", "Java"));
+        index.indexStudy(10L, 2L, "Spring Java 스터디", "백엔드", "JPA", "모집중");
+        index.indexStudy(11L, 2L, "React 스터디", "프론트엔드", "TypeScript", "모집중");
+        index.indexStudy(12L, 2L, "Java 기초", "백엔드", "문법", "모집중");
+    }
+
+    @Test
+    void 겹치는_기술이_많은_스터디가_먼저_추천된다() {
+        List<TechMatchIndex.Match> matches = index.recommendStudies(1L, 10);
+
+        assertThat(matches).extracting(TechMatchIndex.Match::id).containsExactly(10L, 12L);
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+    }
+
+    @Test
+    void 정원이_차면_추천에서_빠지고_다시_열리면_돌아온다() {
+        index.setClosed(10L, true);
+        assertThat(index.recommendStudies(1L, 10)).extracting(TechMatchIndex.Match::id).containsExactly(12L);
+
+        index.setClosed(10L, false);
+        assertThat(index.recommendStudies(1L, 10)).extracting(TechMatchIndex.Match::id).containsExactly(10L, 12L);
+    }
+
+    @Test
+    void 제외_대상은_추천하지_않는다() {
+        index.indexProfile(3L, List.of("Java"));
+
+        assertThat(index.recommendMembers(12L, 10, Set.of(1L)))
+                .extracting(TechMatchIndex.Match::id).containsExactly(3L);
+    }
+
+    @Test
+    void 조사가_붙은_영문_기술명도_매칭된다() {
+        index.indexProfile(4L, List.of("React"));
+        index.indexStudy(13L, 2L, "React로 만드는 포트폴리오", "프론트엔드", "", "모집중");
+
+        assertThat(index.recommendStudies(4L, 10)).extracting(TechMatchIndex.Match::id).contains(13L);
+    }
+
+    @Test
+    void 더_이상_쓰이지_않는_기술_번호는_반납된다() {
+        int before = index.termCount();
+        for (int i = 0; i < 1000; i++) {
+            index.indexProfile(5L, List.of("tech" + i));
+        }
+        assertThat(index.termCount()).isEqualTo(before + 1);
+
+        index.indexProfile(5L, List.of());
+        assertThat(index.termCount()).isEqualTo(before);
+    }
+
+    @Test
+    void 대량_삭제_후_압축되어도_추천이_맞다() {
+        for (long id = 1000; id < 6000; id++) {
+            index.indexStudy(id, 2L, "tech" + id, "백엔드", "", "모집중");
+        }
+        for (long id = 1000; id < 5000; id++) {
+            index.removeStudy(id);
+        }
+        index.indexProfile(6L, List.of("tech5500"));
+
+        assertThat(index.recommendStudies(6L, 10)).extracting(TechMatchIndex.Match::id).containsExactly(5500L);
+        assertThat(index.recommendStudies(1L, 10)).extracting(TechMatchIndex.Match::id).containsExactly(10L, 12L);
+    }
+
+    @Test
+    void 재구성_중에도_변경은_기다리지_않고_새_색인에_남는다() {
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        TechMatchIndex rebuilding = new TechMatchIndex(jdbc);
+        rebuilding.indexProfile(1L, List.of("Java"));
+
+        // DB 를 읽는 도중 다른 스레드에서 스터디 저장
+        when(jdbc.queryForList(startsWith("SELECT id, user_id FROM profile"), any(Object[].class))).thenAnswer(inv -> {
+            CompletableFuture.runAsync(() -> rebuilding.indexStudy(20L, 2L, "Java 스터디", "백엔드", "", "모집중"))
+                    .get(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        rebuilding.rebuild();
+
+        // profile 은 DB(빈 목록) 기준으로 다시 만들어졌고, 재구성 중 저장한 스터디는 남아 있음
+        assertThat(rebuilding.recommendStudies(1L, 10)).isEmpty();
+        rebuilding.indexProfile(1L, List.of("Java"));
+        assertThat(rebuilding.recommendStudies(1L, 10)).extracting(TechMatchIndex.Match::id).containsExactly(20L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.LoginRequestDTO;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PrincipalCache;
+import com.example.demo.util.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "password1234";
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+
+        // SecurityConfig 와 같은 구성 ({bcrypt} 접두어, 접두어 없는 해시도 확인)
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        passwordEncoder = delegating;
+
+        userService = new UserService(userRepository, passwordEncoder, mock(JwtTokenProvider.class),
+                mock(PrincipalCache.class), mock(EntityCacheService.class));
+    }
+
+    @Test
+    void 이전_형식_해시는_로그인하면서_현재_설정으로_다시_해시한다() {
+        // 접두어 없는 BCrypt 해시 (DelegatingPasswordEncoder 도입 전 형식)
+        User user = user(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        userService.login(login(PASSWORD));
+
+        assertThat(user.getPassword()).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches(PASSWORD, user.getPassword())).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(user.getPassword())).isFalse();
+    }
+
+    @Test
+    void 낮은_cost_해시도_다시_해시한다() {
+        User user = user("{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        userService.login(login(PASSWORD));
+
+        assertThat(user.getPassword()).startsWith("{bcrypt}$2a$05$");
+    }
+
+    @Test
+    void 현재_설정의_해시는_그대로_둔다() {
+        String current = passwordEncoder.encode(PASSWORD);
+        User user = user(current);
+
+        userService.login(login(PASSWORD));
+
+        assertThat(user.getPassword()).isEqualTo(current);
+    }
+
+    private User user(String encodedPassword) {
+        User user = User.builder().id(1L).email(EMAIL).password(encodedPassword).name("사용자").role("ROLE_USER").build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        return user;
+    }
+
+    private static LoginRequestDTO login(String password) {
+        LoginRequestDTO request = new LoginRequestDTO();
+        request.setEmail(EMAIL);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 테스트용 DataSource 프록시: 실행된 SQL 을 스레드별로 센다.
+ * QueryCountHolder.clear() 후 요청 → QueryCountHolder.getGrandTotal() 로 확인
+ * (MockMvc 요청은 테스트 스레드에서 실행되므로 스레드별 집계로 충분)
+ */
+@TestConfiguration
+public class QueryCountConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-count")
+                            .countQuery()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportWriterTest {
+
+    @Test
+    void NDJSON은_한_줄에_객체_하나() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of("ndjson", out, "id", "title", "temp", "createdAt");
+
+        writer.row(1L, "자바 \"기초\"", false, LocalDateTime.of(2025, 1, 1, 9, 0));
+        writer.row(2L, null, true, null);
+        writer.flush();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"title\":\"자바 \\\"기초\\\"\",\"temp\":false,\"createdAt\":\"2025-01-01T09:00\"}\n"
+                        + "{\"id\":2,\"title\":null,\"temp\":true,\"createdAt\":null}\n");
+    }
+
+    @Test
+    void CSV는_헤더와_RFC4180_이스케이프() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of("csv", out, "id", "content");
+
+        writer.row(1L, "쉼표, 있음");
+        writer.row(2L, "따옴표 \"인용\"\n줄바꿈");
+        writer.row(3L, null);
+        writer.flush();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,content\r\n"
+                        + "1,\"쉼표, 있음\"\r\n"
+                        + "2,\"따옴표 \"\"인용\"\"\n줄바꿈\"\r\n"
+                        + "3,\r\n");
+    }
+
+    @Test
+    void 지원하지_않는_형식은_거부() {
+        assertThatThrownBy(() -> ExportWriter.of("xml", new ByteArrayOutputStream(), "id"))
+                .hasMessageContaining("지원하지 않는");
+    }
+}
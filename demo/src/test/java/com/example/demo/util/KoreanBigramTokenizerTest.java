@@ -0,0 +1,27 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanBigramTokenizerTest {
+
+    @Test
+    void 한글은_bigram_영문은_소문자_단어() {
+        assertThat(KoreanBigramTokenizer.tokenize("자바스터디 Spring Boot"))
+                .containsExactly("자바", "바스", "스터", "터디", "spring", "boot");
+    }
+
+    @Test
+    void 영문에_붙은_조사는_영문_단어와_분리된다() {
+        assertThat(KoreanBigramTokenizer.tokenize("Spring을 React로")).containsExactly("spring", "react");
+        assertThat(KoreanBigramTokenizer.tokenize("Java스터디")).containsExactly("java", "스터", "터디");
+        assertThat(KoreanBigramTokenizer.tokenize("스터디JPA")).containsExactly("스터", "터디", "jpa");
+    }
+
+    @Test
+    void 한_글자_단어와_구두점() {
+        assertThat(KoreanBigramTokenizer.tokenize("책, 2024!")).containsExactly("책", "2024");
+        assertThat(KoreanBigramTokenizer.tokenize(null)).isEmpty();
+    }
+}
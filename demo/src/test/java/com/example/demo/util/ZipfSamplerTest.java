@@ -0,0 +1,39 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZipfSamplerTest {
+
+    @Test
+    void 같은_seed_는_같은_순서() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.1);
+        Random a = new Random(42);
+        Random b = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(sampler.sample(a)).isEqualTo(sampler.sample(b));
+        }
+    }
+
+    @Test
+    void 앞_순위일수록_자주_나온다() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.1);
+        Random random = new Random(7);
+        int[] counts = new int[1001];
+
+        for (int i = 0; i < 200_000; i++) {
+            int rank = sampler.sample(random);
+            assertThat(rank).isBetween(1, 1000);
+            counts[rank]++;
+        }
+
+        // 1 / k^s 비율: 1위는 10위의 약 12.6배
+        assertThat(counts[1]).isGreaterThan(counts[2]);
+        assertThat(counts[2]).isGreaterThan(counts[10]);
+        assertThat((double) counts[1] / counts[10]).isBetween(10.0, 15.5);
+    }
+}